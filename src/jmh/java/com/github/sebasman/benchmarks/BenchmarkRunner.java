@@ -0,0 +1,34 @@
+package com.github.sebasman.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the usual JMH command line
+ * (e.g. a benchmark filter or -p size=20) and always adds the GC profiler,
+ * so every result reports the allocation rate next to the throughput.
+ */
+public final class BenchmarkRunner {
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private BenchmarkRunner() {}
+
+    /**
+     * Runs the benchmarks.
+     * @param args JMH command line options.
+     * @throws CommandLineOptionException if the options are not valid.
+     * @throws RunnerException if a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
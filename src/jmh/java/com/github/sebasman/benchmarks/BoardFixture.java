@@ -0,0 +1,115 @@
+package com.github.sebasman.benchmarks;
+
+import com.github.sebasman.contracts.events.EventManager;
+import com.github.sebasman.contracts.model.IFoodAPI;
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.GridSpec;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.model.Food;
+import com.github.sebasman.model.Snake;
+import com.github.sebasman.presenter.strategies.pathfinding.HamiltonianCycle;
+
+import java.util.Random;
+
+/**
+ * Canned board used by the benchmarks: a square board whose snake covers a given fraction
+ * of the cells, laid along the Hamiltonian cycle of the board (row by row, like a serpentine),
+ * and a food placed from a seeded generator. The same size, fill and seed always produce
+ * the same board, so results can be compared across commits.
+ * Since the body follows the cycle, the snake can keep moving along it forever.
+ */
+final class BoardFixture implements IGameSession {
+    /**
+     * Fraction of the board covered by the snake.
+     */
+    enum Fill {
+        EMPTY(0.0),
+        HALF(0.5),
+        NINETY(0.9);
+
+        private final double fraction;
+
+        Fill(double fraction) {
+            this.fraction = fraction;
+        }
+    }
+
+    // Seed of every fixture, fixed so that results are comparable across commits
+    static final long SEED = 0x5EED_CAFEL;
+
+    private final int size;
+    private final GridSpec gridSpec;
+    private final Snake snake;
+    private final Food food;
+    private final HamiltonianCycle cycle;
+    private final EventManager eventBus;
+    private int score;
+
+    /**
+     * Builds a fixture by growing a snake along the cycle of the board.
+     * @param size The number of rows and columns of the board.
+     * @param fill The fraction of the board covered by the snake.
+     * @param seed The seed of the food generator.
+     */
+    BoardFixture(int size, Fill fill, long seed) {
+        this.size = size;
+        this.gridSpec = new GridSpec(size, size);
+        this.cycle = HamiltonianCycle.forGrid(size, size);
+        // The initial body lies on the first row, which is also the start of the cycle.
+        this.snake = new Snake(new Position(2, 0), 3, this.gridSpec);
+        int targetLength = Math.max(3, (int) (size * size * fill.fraction));
+        while(this.snake.getLength() < targetLength){
+            this.snake.grow();
+            this.advanceAlongCycle();
+        }
+        this.food = new Food(1, new Position(0, 0), new Random(seed));
+        this.food.spawn(this.snake.getFreeCells());
+        this.eventBus = new EventManager();
+        this.score = 0;
+    }
+
+    /**
+     * Moves the snake one cell along the cycle of the board, which never kills it.
+     */
+    void advanceAlongCycle() {
+        int head = this.snake.getSegmentCell(0);
+        int next = this.cycle.next(head);
+        int dx = next % this.size - head % this.size;
+        int dy = next / this.size - head / this.size;
+        Direction direction = dx > 0 ? Direction.RIGHT : dx < 0 ? Direction.LEFT : dy > 0 ? Direction.DOWN : Direction.UP;
+        this.snake.bufferDirection(direction);
+        this.snake.update();
+    }
+
+    @Override
+    public GridSpec getGridSpec() {
+        return this.gridSpec;
+    }
+
+    @Override
+    public ISnakeAPI getSnake() {
+        return this.snake;
+    }
+
+    @Override
+    public IFoodAPI getFood() {
+        return this.food;
+    }
+
+    @Override
+    public int getScore() {
+        return this.score;
+    }
+
+    @Override
+    public void incrementScore(int points) {
+        this.score += points;
+    }
+
+    @Override
+    public EventManager getEventBus() {
+        return this.eventBus;
+    }
+}
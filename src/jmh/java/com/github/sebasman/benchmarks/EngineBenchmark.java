@@ -0,0 +1,42 @@
+package com.github.sebasman.benchmarks;
+
+import com.github.sebasman.presenter.engine.GameEngine;
+import com.github.sebasman.presenter.engine.TickOutcome;
+import com.github.sebasman.presenter.strategies.HamiltonianStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full headless tick of the engine: decision, move and rules.
+ * The snake is driven by the Hamiltonian strategy, which never dies, so the measurement
+ * is not cut short; when it fills the board, the fixture is rebuilt.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmark {
+    @Param({"20", "100", "500"})
+    private int size;
+    @Param({"EMPTY", "HALF", "NINETY"})
+    private BoardFixture.Fill fill;
+
+    private GameEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.engine = new GameEngine(new BoardFixture(this.size, this.fill, BoardFixture.SEED), new HamiltonianStrategy());
+    }
+
+    @Benchmark
+    public TickOutcome headlessTick() {
+        TickOutcome outcome = this.engine.tick();
+        if(outcome == TickOutcome.WON_BOARD || outcome.isDeath()){
+            this.setUp();
+        }
+        return outcome;
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.sebasman.benchmarks;
+
+import com.github.sebasman.contracts.events.EventManager;
+import com.github.sebasman.contracts.events.types.AiPathUpdatedEvent;
+import com.github.sebasman.contracts.events.types.ScoreUpdatedEvent;
+import com.github.sebasman.contracts.vo.Position;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch of an event to a varying number of listeners of a session bus.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventBenchmark {
+    @Param({"1", "4", "16"})
+    private int listeners;
+
+    private EventManager bus;
+    private AiPathUpdatedEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        this.bus = new EventManager();
+        for(int i = 0; i < this.listeners; i++){
+            this.bus.subscribe(AiPathUpdatedEvent.class, blackhole::consume);
+        }
+        // A listener of another type, which must not be reached
+        this.bus.subscribe(ScoreUpdatedEvent.class, blackhole::consume);
+        this.event = new AiPathUpdatedEvent(List.of(new Position(0, 0), new Position(1, 0)));
+    }
+
+    @Benchmark
+    public void notifyEvent() {
+        this.bus.notify(this.event);
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.sebasman.benchmarks;
+
+import com.github.sebasman.contracts.model.IFoodAPI;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.vo.Position;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations of the model on every tick: moving the snake and spawning the food.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBenchmark {
+    @Param({"20", "100", "500"})
+    private int size;
+    @Param({"EMPTY", "HALF", "NINETY"})
+    private BoardFixture.Fill fill;
+
+    private BoardFixture board;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.board = new BoardFixture(this.size, this.fill, BoardFixture.SEED);
+    }
+
+    @Benchmark
+    public Position snakeUpdate() {
+        // The snake moves along the cycle of the board, so it never dies nor grows.
+        this.board.advanceAlongCycle();
+        return this.board.getSnake().getHead();
+    }
+
+    @Benchmark
+    public Position foodSpawn() {
+        IFoodAPI food = this.board.getFood();
+        ISnakeAPI snake = this.board.getSnake();
+        food.spawn(snake.getFreeCells());
+        return food.getPosition();
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.sebasman.benchmarks;
+
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.presenter.strategies.FollowFoodStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decision of the A* strategy in two situations:
+ * <ul>
+ *     <li>{@code followFoodColdPlan}: the snake is never moved and the cached route is dropped
+ *     before each invocation, so every decision is a full plan on exactly the same situation;</li>
+ *     <li>{@code followFoodRoute}: the snake takes each direction chosen, so the route found once
+ *     is then followed from the cache, as in a real game. The board is rebuilt, outside of the
+ *     measurement, when the snake reaches the food or the route ends badly.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StrategyBenchmark {
+    @Param({"20", "100", "500"})
+    private int size;
+    @Param({"EMPTY", "HALF", "NINETY"})
+    private BoardFixture.Fill fill;
+    @Param({"false", "true"})
+    private boolean spaceTime;
+
+    // Frozen board and its strategy, for the full plans
+    private BoardFixture board;
+    private FollowFoodStrategy strategy;
+    // Board moved by the snake and its strategy, for the cached route
+    private BoardFixture routeBoard;
+    private FollowFoodStrategy routeStrategy;
+    private boolean routeEnded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.board = new BoardFixture(this.size, this.fill, BoardFixture.SEED);
+        this.strategy = this.newStrategy();
+        this.routeBoard = new BoardFixture(this.size, this.fill, BoardFixture.SEED);
+        this.routeStrategy = this.newStrategy();
+        this.routeEnded = false;
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareInvocation() {
+        this.strategy.invalidatePlan();
+        if(this.routeEnded){
+            this.routeBoard = new BoardFixture(this.size, this.fill, BoardFixture.SEED);
+            this.routeStrategy.invalidatePlan();
+            this.routeEnded = false;
+        }
+    }
+
+    @Benchmark
+    public void followFoodColdPlan() {
+        // The buffered direction is discarded by the snake once its input buffer is full.
+        this.strategy.update(this.board, this.board.getSnake());
+    }
+
+    @Benchmark
+    public void followFoodRoute() {
+        ISnakeAPI snake = this.routeBoard.getSnake();
+        this.routeStrategy.update(this.routeBoard, snake);
+        snake.update();
+        this.routeEnded = snake.getHead().equals(this.routeBoard.getFood().getPosition())
+                || snake.checkCollisionWithWall() || snake.checkCollisionWithSelf();
+    }
+
+    /**
+     * Builds a strategy that plans in the calling thread.
+     * @return The strategy to measure.
+     */
+    private FollowFoodStrategy newStrategy() {
+        FollowFoodStrategy followFood = new FollowFoodStrategy();
+        followFood.setSpaceTime(this.spaceTime);
+        return followFood;
+    }
+}
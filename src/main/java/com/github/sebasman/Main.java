@@ -1,15 +1,24 @@
 package com.github.sebasman;
 
+import com.github.sebasman.contracts.diagnostics.IProfiler;
 import com.github.sebasman.contracts.presenter.IState;
+import com.github.sebasman.presenter.diagnostics.PhaseProfiler;
 import com.github.sebasman.presenter.states.StartingState;
 import com.github.sebasman.view.GameView;
 import processing.core.PApplet;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Main class that serves as the entry point for the application.
  * Its only function is to launch the Processing sketch (the Game class).
  */
 public final class Main {
+    // System properties that enable the profiler and set the seconds between its reports
+    private static final String PROFILE_PROPERTY = "vipervision.profile";
+    private static final String PROFILE_INTERVAL_PROPERTY = "vipervision.profile.interval";
+    private static final long DEFAULT_PROFILE_INTERVAL_SECONDS = 10;
+
     /**
      * Initial game input
      * @param args additional arguments required
@@ -17,7 +26,11 @@ public final class Main {
     public static void main(String[] args){
         // Get the initial instances
         IState initialState = StartingState.getInstance();
-        GameView game = new GameView(initialState);
+        // The profiler is always available, but only records and reports if asked to.
+        long interval = Long.getLong(PROFILE_INTERVAL_PROPERTY, DEFAULT_PROFILE_INTERVAL_SECONDS);
+        IProfiler profiler = new PhaseProfiler(Boolean.getBoolean(PROFILE_PROPERTY),
+                TimeUnit.SECONDS.toNanos(Math.max(interval, 0)), System.out);
+        GameView game = new GameView(initialState, profiler);
         String[] processingArgs = {"ViperVision"};
         PApplet.runSketch(processingArgs, game);
     }
@@ -0,0 +1,57 @@
+package com.github.sebasman;
+
+import com.github.sebasman.presenter.strategies.WeightedHeuristicStrategy;
+import com.github.sebasman.presenter.strategies.neural.NetworkFile;
+import com.github.sebasman.presenter.strategies.neural.NeuralNetwork;
+import com.github.sebasman.presenter.strategies.neural.NeuralPolicyStrategy;
+import com.github.sebasman.presenter.training.Genome;
+import com.github.sebasman.presenter.training.GeneticTrainer;
+import com.github.sebasman.presenter.training.TrainerConfig;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Headless entry point that evolves an AI policy with the genetic trainer and prints
+ * the fitness curve, one line per generation, followed by the best genome.
+ * Two policies can be trained: the weights of the heuristic AI, or a neural network
+ * whose best parameters are saved to a file that NeuralPolicyStrategy can load.
+ */
+public final class TrainerMain {
+    /**
+     * Runs a training session.
+     * @param args [generations] [population size] [seed] [heuristic | network] [output file], all optional
+     * @throws IOException if the trained network cannot be saved.
+     */
+    public static void main(String[] args) throws IOException {
+        int generations = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        TrainerConfig config = TrainerConfig.defaults();
+        if(args.length > 1) config = config.withPopulationSize(Integer.parseInt(args[1]));
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        boolean network = args.length > 3 && args[3].equalsIgnoreCase("network");
+        Path output = Path.of(args.length > 4 ? args[4] : "policy.vvnn");
+
+        GeneticTrainer trainer;
+        if(network){
+            trainer = new GeneticTrainer(NeuralNetwork.parameterCount(NeuralPolicyStrategy.DEFAULT_LAYERS),
+                    NeuralPolicyStrategy::withParameters, config, seed);
+        } else {
+            trainer = new GeneticTrainer(WeightedHeuristicStrategy.FEATURE_COUNT,
+                    WeightedHeuristicStrategy::new, config, seed);
+            trainer.seedPopulation(Genome.of(new WeightedHeuristicStrategy().getWeights()));
+        }
+        Genome best = trainer.train(generations, System.out::println);
+        if(network){
+            System.out.printf("Best fitness: %.3f%n", best.getFitness());
+            NetworkFile.write(output, NeuralPolicyStrategy.withParameters(best.getGenes()).getNetwork());
+            System.out.println("Network saved to " + output.toAbsolutePath());
+        } else {
+            System.out.println("Best genome: " + best);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation, since it is a utility class.
+     */
+    private TrainerMain(){}
+}
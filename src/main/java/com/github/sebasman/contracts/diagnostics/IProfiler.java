@@ -0,0 +1,66 @@
+package com.github.sebasman.contracts.diagnostics;
+
+import java.util.List;
+
+/**
+ * Times the phases of the game loop. Meant to stay in production builds: timing a phase
+ * must not allocate, and costs almost nothing while the profiler is disabled.
+ * A phase is timed by taking a start with {@link #start()} and passing it to {@link #stop}:
+ * <pre>
+ *     long start = profiler.start();
+ *     renderer.draw(...);
+ *     profiler.stop(ProfilePhase.BOARD, start);
+ * </pre>
+ * Each phase must be timed by a single thread at a time; the statistics may be read
+ * from any thread, and are approximate while phases are being recorded.
+ */
+public interface IProfiler {
+    /**
+     * Checks if the phases are being timed.
+     * @return true if the profiler records.
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts or stops timing the phases. The statistics recorded so far are kept.
+     * @param enabled true to record the phases.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Takes the start of a phase.
+     * @return The current time in nanoseconds, or 0 if the profiler is disabled.
+     */
+    long start();
+
+    /**
+     * Records the duration of a phase, from a start taken with {@link #start()}.
+     * Does nothing if the start was taken while the profiler was disabled.
+     * @param phase The phase that ended.
+     * @param start The value returned by {@link #start()} when the phase began.
+     */
+    void stop(ProfilePhase phase, long start);
+
+    /**
+     * Marks the end of a frame, so the profiler can report its statistics periodically.
+     */
+    void endFrame();
+
+    /**
+     * Takes the statistics of a phase.
+     * @param phase The phase.
+     * @return The statistics recorded so far.
+     */
+    PhaseStats snapshot(ProfilePhase phase);
+
+    /**
+     * Takes the statistics of every phase timed at least once.
+     * @return The statistics, in the order of the phases.
+     */
+    List<PhaseStats> snapshot();
+
+    /**
+     * Clears the statistics of every phase.
+     */
+    void reset();
+}
@@ -0,0 +1,30 @@
+package com.github.sebasman.contracts.diagnostics;
+
+import java.util.Objects;
+
+/**
+ * Latency statistics of a phase of the game loop at the time they were taken.
+ * @param phase The phase measured.
+ * @param count The number of times the phase was timed.
+ * @param meanNanos The mean duration, in nanoseconds.
+ * @param p50Nanos The median duration, in nanoseconds.
+ * @param p99Nanos The 99th percentile of the duration, in nanoseconds.
+ * @param maxNanos The longest duration, in nanoseconds.
+ * @param lastNanos The duration of the last time the phase was timed, in nanoseconds.
+ */
+public record PhaseStats(ProfilePhase phase, long count, long meanNanos, long p50Nanos, long p99Nanos, long maxNanos, long lastNanos) {
+    /**
+     * Validates the statistics.
+     * @param phase The phase measured.
+     * @param count The number of times the phase was timed.
+     * @param meanNanos The mean duration, in nanoseconds.
+     * @param p50Nanos The median duration, in nanoseconds.
+     * @param p99Nanos The 99th percentile of the duration, in nanoseconds.
+     * @param maxNanos The longest duration, in nanoseconds.
+     * @param lastNanos The duration of the last time the phase was timed, in nanoseconds.
+     */
+    public PhaseStats {
+        Objects.requireNonNull(phase, "Phase cannot be null");
+        if(count < 0) throw new IllegalArgumentException("Count cannot be negative.");
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.sebasman.contracts.diagnostics;
+
+/**
+ * Phases of the game loop timed by an {@link IProfiler}: the logic of a tick and the
+ * drawing of a frame, each split into the steps that may cost the most.
+ */
+public enum ProfilePhase {
+    // --- Logic ---
+    UPDATE("Update"),
+    STRATEGY("Strategy"),
+    SNAKE_UPDATE("Snake Update"),
+    COLLISION("Collisions"),
+    EVENT_DISPATCH("Events"),
+    // --- Rendering ---
+    DRAW("Draw"),
+    UI_STATIC("UI"),
+    BOARD("Board"),
+    PATH("Path"),
+    SNAKE("Snake"),
+    FOOD("Food"),
+    HUD("HUD");
+
+    // Name of the phase in the reports
+    private final String label;
+
+    /**
+     * Constructs a phase with its name.
+     * @param label The name shown in the reports.
+     */
+    ProfilePhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the name of the phase shown in the reports.
+     * @return The label.
+     */
+    public String getLabel() { return label; }
+}
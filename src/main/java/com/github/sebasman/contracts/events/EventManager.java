@@ -1,30 +1,54 @@
 package com.github.sebasman.contracts.events;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
- * Implementation of a centralized, type-safe event bus.
- * Uses the Singleton pattern to be globally accessible and Java generics
- * To provide strongly typed notifications without the need for instanceof
- * or ‘casts’ on subscribers.
+ * Implementation of a type-safe event bus.
+ * There is one application-level bus, globally accessible through {@link #getInstance()},
+ * for the events of the UI and the application (buttons, configuration, end of session),
+ * and one bus per game session for the events of the game (food, death, score, AI path),
+ * so that independent sessions never share listeners.
+ * Uses Java generics to provide strongly typed notifications without the need for
+ * instanceof or ‘casts’ on subscribers, and dispatches through a table indexed
+ * by the id of the event type.
+ * A bus can also coalesce its events, e.g. while a frame runs many ticks in turbo mode:
+ * the events are then held, only the latest one of each type is kept, and they are
+ * dispatched together by {@link #flush()}, in the order their types were first published.
  */
 public class EventManager {
     private static final EventManager INSTANCE = new EventManager();
-    // The map of listeners
-    private final Map<Class<? extends IGameEvent>, List<Consumer<?>>> listeners = new HashMap<>();
+    // Shared empty array for the event types without listeners
+    private static final Consumer<?>[] NO_LISTENERS = new Consumer<?>[0];
+    // The listeners of each event type, indexed by the id of the type.
+    // Neither the table nor its arrays are ever modified once published: subscribing
+    // or unsubscribing builds new ones (copy-on-write), so notify can read them without locks.
+    private volatile Consumer<?>[][] listeners;
+    // Number of events dispatched to their listeners, for the diagnostics
+    private final AtomicLong dispatchCount = new AtomicLong();
+    // --- Coalescing, only used by the thread that publishes on the bus ---
+    private boolean coalescing;
+    // Latest event of each type held since the last flush, indexed by the id of the type
+    private IGameEvent[] pending;
+    // Types of the held events, in the order they were first published
+    private int[] pendingOrder;
+    private int pendingCount;
 
     /**
-     * Constructor privado para forzar el uso del patrón Singleton.
+     * Builds a new, empty event bus with its own listeners.
+     * Used to scope the events of a game session.
      */
-    private EventManager() {}
+    public EventManager() {
+        this.listeners = new Consumer<?>[Math.max(EventTypes.count(), 8)][];
+        this.pending = new IGameEvent[this.listeners.length];
+        this.pendingOrder = new int[this.listeners.length];
+    }
 
     /**
-     * Obtiene la instancia única del EventManager.
-     * @return La instancia Singleton del EventManager.
+     * Returns the application-level event bus.
+     * @return The singleton instance shared by the whole application.
      */
     public static EventManager getInstance() {
         return INSTANCE;
@@ -34,42 +58,138 @@ public class EventManager {
      * Subscribes an action (listener) to a specific event type.
      * The use of generic <T> ensures that the type of the event class
      * matches the type of the consumer, ensuring compile-time safety.
+     * Can be called from any thread, even while events are being published.
      * @param eventType The class of the event to be subscribed to (e.g., ScoreUpdatedEvent. Class).
      * @param listener The action (lambda or method reference) to be executed when the event occurs.
      * @param <T> The type of the event, inferred from the eventType argument.
      */
-    public <T extends IGameEvent> void subscribe(Class<T> eventType, Consumer<T> listener) {
-        // computeIfAbsent gets the existing list or creates a new one if it does not exist.
-        List<Consumer<?>> eventListeners = this.listeners.computeIfAbsent(eventType, _ -> new LinkedList<>());
-        eventListeners.add(listener);
+    public synchronized <T extends IGameEvent> void subscribe(Class<T> eventType, Consumer<T> listener) {
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        int typeId = EventTypes.idOf(eventType);
+        Consumer<?>[][] table = this.listeners;
+        table = Arrays.copyOf(table, Math.max(typeId + 1, table.length));
+        Consumer<?>[] current = table[typeId] == null ? NO_LISTENERS : table[typeId];
+        Consumer<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        table[typeId] = updated;
+        // The volatile write publishes the new arrays to the threads that notify.
+        this.listeners = table;
     }
 
-    public <T extends IGameEvent> void unsubscribe(Class<T> eventType, Consumer<T> listener) {
-        List<Consumer<?>> eventListeners = this.listeners.get(eventType);
-        if (eventListeners != null) {
-            eventListeners.remove(listener);
+    /**
+     * Removes a listener previously subscribed to an event type.
+     * Can be called from any thread, even while events are being published.
+     * @param eventType The class of the event the listener was subscribed to.
+     * @param listener The same instance that was subscribed.
+     * @param <T> The type of the event.
+     */
+    public synchronized <T extends IGameEvent> void unsubscribe(Class<T> eventType, Consumer<T> listener) {
+        int typeId = EventTypes.idOf(eventType);
+        Consumer<?>[][] table = this.listeners;
+        if (typeId >= table.length || table[typeId] == null) return;
+        Consumer<?>[] current = table[typeId];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].equals(listener)) {
+                Consumer<?>[] updated = new Consumer<?>[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                table = table.clone();
+                table[typeId] = updated.length == 0 ? null : updated;
+                this.listeners = table;
+                return;
+            }
         }
     }
 
     /**
      * Publishes an event, notifying all interested subscribers.
-     * This method is safe because it only retrieves the list associated with the exact class
-     * of the event object being notified.
+     * This method is safe because it only retrieves the listeners associated with the exact type
+     * of the event object being notified. It does not allocate: it iterates over the array
+     * published by the last subscription, so listeners may (un)subscribe during the dispatch
+     * without affecting it.
      * @param event The event object to be notified.
      * @param <T> The type of the event.
      */
-    @SuppressWarnings("unchecked") // This cast is safe by design logic.
     public <T extends IGameEvent> void notify(T event) {
-        // Get the list of listeners for the exact class of this event.
-        List<Consumer<?>> eventListeners = this.listeners.get(event.getClass());
-        if (eventListeners != null) {
-            for (Consumer<?> listener : new LinkedList<>(eventListeners)) {
-                // We do a safe cast because we know that the map guarantees that this
-                // listener was subscribed for this exact type of event (T).
-                // The compiler can't know, but we can, so we suppress the warning.
-                final Consumer<T> typedListener = (Consumer<T>) listener;
-                typedListener.accept(event);
+        if(this.coalescing){
+            this.hold(event);
+            return;
+        }
+        this.dispatch(event);
+    }
+
+    /**
+     * Starts or stops coalescing the events of this bus. Only meant for a bus whose events
+     * are all published by a single thread, such as the bus of a session ticked in the render loop.
+     * Events still held when coalescing stops are dispatched.
+     * @param coalescing true to hold the events until {@link #flush()}, false to dispatch them right away.
+     */
+    public void setCoalescing(boolean coalescing) {
+        if(!coalescing) this.flush();
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Dispatches the events held while coalescing, the latest one of each type.
+     * Events published by the listeners during the flush are dispatched too, before it returns,
+     * and a listener may flush or stop coalescing itself.
+     */
+    public void flush() {
+        for(int i = 0; i < this.pendingCount; i++){
+            int typeId = this.pendingOrder[i];
+            IGameEvent event = this.pending[typeId];
+            // Already dispatched by a flush run from a listener of this one.
+            if(event == null) continue;
+            this.pending[typeId] = null;
+            this.dispatch(event);
+        }
+        this.pendingCount = 0;
+    }
+
+    /**
+     * Keeps an event until the next flush, replacing the previous one of the same type.
+     * @param event The event to hold.
+     */
+    private void hold(IGameEvent event) {
+        int typeId = event.typeId();
+        if(typeId >= this.pending.length) this.pending = Arrays.copyOf(this.pending, typeId + 1);
+        if(this.pending[typeId] == null){
+            if(this.pendingCount == this.pendingOrder.length){
+                this.pendingOrder = Arrays.copyOf(this.pendingOrder, this.pendingCount * 2);
             }
+            this.pendingOrder[this.pendingCount++] = typeId;
         }
+        this.pending[typeId] = event;
+    }
+
+    /**
+     * Delivers an event to the listeners of its type.
+     * @param event The event.
+     * @param <T> The type of the event.
+     */
+    @SuppressWarnings("unchecked") // This cast is safe by design logic.
+    private <T extends IGameEvent> void dispatch(T event) {
+        this.dispatchCount.getAndIncrement();
+        // Get the listeners for the exact type of this event.
+        Consumer<?>[][] table = this.listeners;
+        int typeId = event.typeId();
+        if (typeId >= table.length) return;
+        Consumer<?>[] eventListeners = table[typeId];
+        if (eventListeners == null) return;
+        for (Consumer<?> listener : eventListeners) {
+            // We do a safe cast because we know that the table guarantees that this
+            // listener was subscribed for this exact type of event (T).
+            // The compiler can't know, but we can, so we suppress the warning.
+            final Consumer<T> typedListener = (Consumer<T>) listener;
+            typedListener.accept(event);
+        }
+    }
+
+    /**
+     * Returns the number of events dispatched so far, held ones only once they are flushed.
+     * @return The dispatch counter.
+     */
+    public long getDispatchCount() {
+        return this.dispatchCount.get();
     }
 }
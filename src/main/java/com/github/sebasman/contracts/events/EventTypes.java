@@ -0,0 +1,43 @@
+package com.github.sebasman.contracts.events;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry that gives every event class a small, dense integer id.
+ * The ids index the listener tables of the EventManager directly,
+ * so publishing an event never hashes its class.
+ */
+public final class EventTypes {
+    // Next free id
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    // The id of each event class, computed once and cached by the JVM
+    private static final ClassValue<Integer> IDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return NEXT_ID.getAndIncrement();
+        }
+    };
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private EventTypes() {}
+
+    /**
+     * Returns the id of an event class, registering it the first time.
+     * Event classes keep the result in a constant returned by {@link IGameEvent#typeId()}.
+     * @param eventType The class of the event.
+     * @return The id of the event type, stable for the lifetime of the application.
+     */
+    public static int idOf(Class<? extends IGameEvent> eventType) {
+        return IDS.get(eventType);
+    }
+
+    /**
+     * Returns the number of event types registered so far.
+     * @return An upper bound (exclusive) of the ids given.
+     */
+    public static int count() {
+        return NEXT_ID.get();
+    }
+}
@@ -1,10 +1,17 @@
 package com.github.sebasman.contracts.events;
 
 /**
- * A marker interface representing an in-game event.
+ * Represents an in-game event.
  * All concrete event classes must implement this interface.
  * Serves as an upper bound for generic types in the EventManager,
  * Ensuring type safety throughout the event system.
  */
 public interface IGameEvent {
+    /**
+     * Returns the id of the type of this event, used by the EventManager
+     * as a direct index into its listener table.
+     * Implementations return a constant obtained from {@link EventTypes#idOf(Class)}.
+     * @return The id of the event type.
+     */
+    int typeId();
 }
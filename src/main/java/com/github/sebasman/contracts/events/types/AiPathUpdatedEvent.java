@@ -1,9 +1,23 @@
 package com.github.sebasman.contracts.events.types;
 
+import com.github.sebasman.contracts.events.EventTypes;
 import com.github.sebasman.contracts.events.IGameEvent;
 import com.github.sebasman.contracts.vo.Position;
 
 import java.util.List;
 
+/**
+ * Event published by an AI strategy when it has a new route to show.
+ * It is dispatched on the thread that runs the strategy, which may be the simulation thread,
+ * so the path must not be modified once published.
+ * @param path The route to follow, start excluded.
+ */
 public record AiPathUpdatedEvent(List<Position> path) implements IGameEvent {
+    // The id of this event type in the EventManager
+    private static final int TYPE_ID = EventTypes.idOf(AiPathUpdatedEvent.class);
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
 }
@@ -1,5 +1,6 @@
 package com.github.sebasman.contracts.events.types;
 
+import com.github.sebasman.contracts.events.EventTypes;
 import com.github.sebasman.contracts.events.IGameEvent;
 import com.github.sebasman.contracts.view.IUiComponent;
 
@@ -8,4 +9,11 @@ import com.github.sebasman.contracts.view.IUiComponent;
  * @param component The component that originated the event
  */
 public record ButtonPressedEvent(IUiComponent component) implements IGameEvent {
+    // The id of this event type in the EventManager
+    private static final int TYPE_ID = EventTypes.idOf(ButtonPressedEvent.class);
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
 }
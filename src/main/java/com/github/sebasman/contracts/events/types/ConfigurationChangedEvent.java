@@ -1,5 +1,6 @@
 package com.github.sebasman.contracts.events.types;
 
+import com.github.sebasman.contracts.events.EventTypes;
 import com.github.sebasman.contracts.events.IGameEvent;
 
 import java.util.Objects;
@@ -11,6 +12,9 @@ import java.util.Objects;
  * @param value The new value of the configuration (e.g., a Float, Boolean, etc.).
  */
 public record ConfigurationChangedEvent(String key, Object value) implements IGameEvent {
+    // The id of this event type in the EventManager
+    private static final int TYPE_ID = EventTypes.idOf(ConfigurationChangedEvent.class);
+
     /**
      * Constructor of a new Event
      * @param key String that contains the key of the configuration
@@ -20,4 +24,9 @@ public record ConfigurationChangedEvent(String key, Object value) implements IGa
         this.key = Objects.requireNonNull(key, "Key cannot be null");
         this.value = Objects.requireNonNull(value, "Value cannot be null");
     }
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
 }
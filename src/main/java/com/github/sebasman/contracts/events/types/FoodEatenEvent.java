@@ -1,13 +1,21 @@
 package com.github.sebasman.contracts.events.types;
 
+import com.github.sebasman.contracts.events.EventTypes;
 import com.github.sebasman.contracts.events.IGameEvent;
-import com.github.sebasman.contracts.model.IFoodAPI;
-import com.github.sebasman.contracts.model.ISnakeAPI;
 
 /**
- * Event published when the snake eats its food
- * @param food The instance of the food consumed by the snake
- * @param snake The instance of the snake
+ * Event published when the snake eats its food.
+ * It only carries values, so it can be built from a frame of the simulation thread
+ * or held by the event bus without referencing the live model.
+ * @param score The score of the session once the food has been eaten
+ * @param length The length of the snake once the food has been eaten
  */
-public record FoodEatenEvent(IFoodAPI food, ISnakeAPI snake) implements IGameEvent {
+public record FoodEatenEvent(int score, int length) implements IGameEvent {
+    // The id of this event type in the EventManager
+    private static final int TYPE_ID = EventTypes.idOf(FoodEatenEvent.class);
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
 }
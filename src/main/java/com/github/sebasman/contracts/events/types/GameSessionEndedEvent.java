@@ -1,5 +1,6 @@
 package com.github.sebasman.contracts.events.types;
 
+import com.github.sebasman.contracts.events.EventTypes;
 import com.github.sebasman.contracts.events.IGameEvent;
 
 /**
@@ -7,4 +8,11 @@ import com.github.sebasman.contracts.events.IGameEvent;
  * (e.g., when returning to the main menu from GameOver or Pause).
  */
 public record GameSessionEndedEvent() implements IGameEvent {
+    // The id of this event type in the EventManager
+    private static final int TYPE_ID = EventTypes.idOf(GameSessionEndedEvent.class);
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
 }
@@ -1,5 +1,6 @@
 package com.github.sebasman.contracts.events.types;
 
+import com.github.sebasman.contracts.events.EventTypes;
 import com.github.sebasman.contracts.events.IGameEvent;
 
 /**
@@ -8,6 +9,9 @@ import com.github.sebasman.contracts.events.IGameEvent;
  * @param highScore The highest score achieved in the game
  */
 public record ScoreUpdatedEvent(int score, int highScore) implements IGameEvent {
+    // The id of this event type in the EventManager
+    private static final int TYPE_ID = EventTypes.idOf(ScoreUpdatedEvent.class);
+
     /**
      * Constructor of the type event
      * @param score the new score
@@ -16,4 +20,9 @@ public record ScoreUpdatedEvent(int score, int highScore) implements IGameEvent
     public ScoreUpdatedEvent {
         if (score < 0 || highScore < 0) throw new IllegalArgumentException("Score/High-score cannot be negative");
     }
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
 }
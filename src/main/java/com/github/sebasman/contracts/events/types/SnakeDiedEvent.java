@@ -1,9 +1,17 @@
 package com.github.sebasman.contracts.events.types;
 
+import com.github.sebasman.contracts.events.EventTypes;
 import com.github.sebasman.contracts.events.IGameEvent;
 
 /**
  * Event published when the snake dies
  */
 public record SnakeDiedEvent() implements IGameEvent {
+    // The id of this event type in the EventManager
+    private static final int TYPE_ID = EventTypes.idOf(SnakeDiedEvent.class);
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
 }
@@ -2,8 +2,6 @@ package com.github.sebasman.contracts.model;
 
 import com.github.sebasman.contracts.vo.Position;
 
-import java.util.Set;
-
 /**
  * The FoodAPI interface defines the contract for food-related operations in the game.
  * It extends the Drawable interface to allow food to be drawn on the game board.
@@ -11,9 +9,11 @@ import java.util.Set;
 public interface IFoodAPI {
     /**
      * Spawns food at a random position on the grid, ensuring it does not overlap with the snake's body.
-     * @param snakeBody A list of positions representing the snake's body.
+     * The cell is picked uniformly at random among the free ones in constant time.
+     * If there is no free cell left, the position becomes null (victory).
+     * @param freeCells The index of the cells not covered by the snake's body.
      */
-    void spawn(Set<Position> snakeBody);
+    void spawn(IFreeCellIndex freeCells);
 
     /**
      * Retrieves the score value associated with the food.
@@ -0,0 +1,40 @@
+package com.github.sebasman.contracts.model;
+
+/**
+ * Read-only view of the set of free cells of the board.
+ * Free cells are kept in a dense, unordered table so that any of them
+ * can be picked by rank in constant time.
+ */
+public interface IFreeCellIndex {
+    /**
+     * Returns the number of columns of the board, needed to decode cell indices.
+     * @return The width of the board.
+     */
+    int getWidth();
+
+    /**
+     * Returns the number of rows of the board.
+     * @return The height of the board.
+     */
+    int getHeight();
+
+    /**
+     * Returns the number of free cells.
+     * @return The size of the index.
+     */
+    int size();
+
+    /**
+     * Returns the free cell stored at a given rank of the dense table.
+     * @param rank A value in the range [0, size()).
+     * @return The index of the free cell (y * width + x).
+     */
+    int get(int rank);
+
+    /**
+     * Checks if a cell is free.
+     * @param index The index of the cell.
+     * @return true if the cell is free, false otherwise.
+     */
+    boolean contains(int index);
+}
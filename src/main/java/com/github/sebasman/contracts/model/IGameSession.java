@@ -1,10 +1,19 @@
 package com.github.sebasman.contracts.model;
 
+import com.github.sebasman.contracts.events.EventManager;
+import com.github.sebasman.contracts.vo.GridSpec;
+
 /**
  * Defines the contract for a game session.
  * Sets out the methods necessary for the Presenter to interact with the game state.
  */
 public interface IGameSession {
+    /**
+     * Returns the specification of the board of this session.
+     * @return The dimensions of the board.
+     */
+    GridSpec getGridSpec();
+
     /**
      * Returns the current snake instance in the game.
      * @return The Snake instance representing the snake in the game.
@@ -28,4 +37,12 @@ public interface IGameSession {
      * @param points The number of points to add to the score.
      */
     void incrementScore(int points);
+
+    /**
+     * Returns the event bus scoped to this session, where the game events
+     * (food eaten, death, score, AI path) are published.
+     * It lives and dies with the session, so its listeners never leak into other games.
+     * @return The event bus of the session.
+     */
+    EventManager getEventBus();
 }
@@ -0,0 +1,56 @@
+package com.github.sebasman.contracts.model;
+
+/**
+ * Read-only view of a grid that records which cells are occupied.
+ * Cells are addressed either by coordinates or by their index (y * width + x),
+ * so that hot paths can query occupancy without creating Position objects.
+ */
+public interface IOccupancyGrid {
+    /**
+     * Returns the number of columns of the grid.
+     * @return The width of the grid.
+     */
+    int getWidth();
+
+    /**
+     * Returns the number of rows of the grid.
+     * @return The height of the grid.
+     */
+    int getHeight();
+
+    /**
+     * Checks if a coordinate lies inside the grid.
+     * @param x The column.
+     * @param y The row.
+     * @return true if the coordinate is inside the grid, false otherwise.
+     */
+    boolean isInside(int x, int y);
+
+    /**
+     * Checks if a cell is occupied.
+     * @param index The index of the cell (y * width + x).
+     * @return true if the cell is occupied, false otherwise.
+     */
+    boolean isOccupied(int index);
+
+    /**
+     * Checks if a coordinate is occupied. Coordinates outside the grid are never occupied.
+     * @param x The column.
+     * @param y The row.
+     * @return true if the cell is occupied, false otherwise.
+     */
+    boolean isOccupied(int x, int y);
+
+    /**
+     * Returns the number of occupied cells.
+     * @return The population count of the grid.
+     */
+    int cardinality();
+
+    /**
+     * Returns a counter that changes every time a cell of the grid changes, so the data
+     * derived from the grid can tell whether it is still up to date.
+     * @return The version of the content of the grid.
+     */
+    long getVersion();
+}
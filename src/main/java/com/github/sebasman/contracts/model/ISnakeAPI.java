@@ -4,14 +4,14 @@ import com.github.sebasman.contracts.vo.Direction;
 import com.github.sebasman.contracts.vo.Position;
 
 import java.util.List;
-import java.util.Set;
 
 /**
  * The SnakeAPI interface defines the contract for snake-related operations in the game.
  * It extends the Drawable and Updatable interfaces to allow the snake to be drawn on the game board
  * and updated during each game tick.
+ * The read-only part used by the renderers is {@link ISnakeView}, and the one used by the planners is {@link ISnakeState}.
  */
-public interface ISnakeAPI extends IUpdatable {
+public interface ISnakeAPI extends IUpdatable, ISnakeView, ISnakeState {
     /**
      * Sets the direction of the snake's movement.
      * @param direction the direction to set for the snake
@@ -35,39 +35,21 @@ public interface ISnakeAPI extends IUpdatable {
      */
     boolean checkCollisionWithSelf();
 
-    /**
-     * Returns the current direction of the snake.
-     * @return the current direction of the snake
-     */
-    Position getHead();
-
-    /**
-     * Return the current position of the tail's snake
-     * @return The current position of the tail's snake
-     */
-    Position getTail();
-
     /**
      * Return the current position occupied by the snake's body
-     * @return a list of positions representing the current snake's body
+     * @return a read-only, random-access list representing the current snake's body
      */
     List<Position> getBody();
 
     /**
      * Return the previous positions occupied by the snake's body
-     * @return a list of position representing the previous snake's body
+     * @return a read-only, random-access list representing the previous snake's body
      */
     List<Position> getPreviousBody();
 
     /**
-     * Returns the set of positions occupied by the snake's body.
-     * @return a set of positions representing the snake's body
-     */
-    Set<Position> getBodySet();
-
-    /**
-     * Returns the current direction in which the serpent is moving
-     * @return The current direction
+     * Returns the index of the cells not covered by the snake's body, kept in sync with the occupancy grid.
+     * @return the free cells of the board
      */
-    Direction getDirection();
+    IFreeCellIndex getFreeCells();
 }
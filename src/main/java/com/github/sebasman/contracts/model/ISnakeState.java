@@ -0,0 +1,61 @@
+package com.github.sebasman.contracts.model;
+
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+
+/**
+ * Read-only state of a snake, with what the planners need to decide its next move:
+ * the current body, its cells, the heading, the pending growth and the occupancy.
+ * Implemented by the live snake and by the copies planned on other threads.
+ */
+public interface ISnakeState {
+    /**
+     * Returns the number of segments of the snake's body.
+     * @return the current length of the snake
+     */
+    int getLength();
+
+    /**
+     * Returns a segment of the snake's body in constant time.
+     * @param index 0 for the head, getLength() - 1 for the tail
+     * @return the position of the segment
+     */
+    Position getSegment(int index);
+
+    /**
+     * Returns the cell of a segment of the snake's body in constant time.
+     * @param index 0 for the head, getLength() - 1 for the tail
+     * @return the cell index (y * width + x), or -1 if the segment is outside the board
+     */
+    int getSegmentCell(int index);
+
+    /**
+     * Returns the position of the snake's head.
+     * @return the current position of the head
+     */
+    Position getHead();
+
+    /**
+     * Return the current position of the tail's snake
+     * @return The current position of the tail's snake
+     */
+    Position getTail();
+
+    /**
+     * Returns the current direction in which the serpent is moving
+     * @return The current direction
+     */
+    Direction getDirection();
+
+    /**
+     * Checks if the snake will grow on its next move, keeping its tail in place.
+     * @return true if the snake has eaten and has not grown yet.
+     */
+    boolean isGrowing();
+
+    /**
+     * Returns the occupancy grid of the snake's body, kept up to date on every move.
+     * @return a grid in which the cells covered by the body are occupied
+     */
+    IOccupancyGrid getOccupancy();
+}
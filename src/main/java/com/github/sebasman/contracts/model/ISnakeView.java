@@ -0,0 +1,43 @@
+package com.github.sebasman.contracts.model;
+
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+
+/**
+ * Read-only view of a snake, with what the renderers need to draw it and interpolate
+ * its movement: the body of the last move, the body before it and the heading.
+ * Implemented by the live snake and by the frames published by the simulation thread.
+ */
+public interface ISnakeView {
+    /**
+     * Returns the number of segments of the snake's body.
+     * @return the current length of the snake
+     */
+    int getLength();
+
+    /**
+     * Returns a segment of the snake's body in constant time.
+     * @param index 0 for the head, getLength() - 1 for the tail
+     * @return the position of the segment
+     */
+    Position getSegment(int index);
+
+    /**
+     * Returns the number of segments the body had before the last move.
+     * @return the previous length of the snake
+     */
+    int getPreviousLength();
+
+    /**
+     * Returns a segment of the body as it was before the last move, in constant time.
+     * @param index 0 for the previous head, getPreviousLength() - 1 for the previous tail
+     * @return the position of the segment
+     */
+    Position getPreviousSegment(int index);
+
+    /**
+     * Returns the current direction in which the serpent is moving
+     * @return The current direction
+     */
+    Direction getDirection();
+}
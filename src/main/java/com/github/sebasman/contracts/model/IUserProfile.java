@@ -30,4 +30,16 @@ public interface IUserProfile {
      * @param highScore the new high score
      */
     void setHighScore(int highScore);
+
+    /**
+     * Checks if the games are simulated on their own thread, apart from the rendering.
+     * @return true if the simulation thread is enabled.
+     */
+    boolean isSimulationThreaded();
+
+    /**
+     * Chooses where the next games are simulated.
+     * @param simulationThreaded true to run the ticks on a dedicated thread, false to run them in the render loop
+     */
+    void setSimulationThreaded(boolean simulationThreaded);
 }
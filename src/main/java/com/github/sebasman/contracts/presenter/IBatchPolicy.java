@@ -0,0 +1,40 @@
+package com.github.sebasman.contracts.presenter;
+
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.vo.Direction;
+
+/**
+ * Batched counterpart of {@link IControlStrategy#update}, for policies that can decide the moves of
+ * many games in a single call. The observations of the games are laid out as a contiguous matrix
+ * with one column per game (struct-of-arrays): value k of game i is at index k * stride + i,
+ * so the policy can evaluate every game at once with vectorized matrix products.
+ * The games are independent, but they are stepped in lockstep by the caller.
+ */
+public interface IBatchPolicy {
+    /**
+     * Returns the number of values of an observation, which is the number of rows of the matrix.
+     * @return The size of an observation.
+     */
+    int getObservationSize();
+
+    /**
+     * Writes the observation of a game into its column of the matrix.
+     * @param session The game session, before the next move.
+     * @param snake The snake that this policy controls.
+     * @param observations The observation matrix.
+     * @param column The column of the game.
+     * @param stride The distance between two rows of the matrix.
+     */
+    void observe(IGameSession session, ISnakeAPI snake, float[] observations, int column, int stride);
+
+    /**
+     * Decides the next move of every game of the batch.
+     * @param observations The observation matrix, with the first count columns filled.
+     * @param stride The distance between two rows of the matrix, at least count.
+     * @param count The number of games.
+     * @param headings The current direction of the snake of each game.
+     * @param decisions Receives the direction chosen for each game.
+     */
+    void decide(float[] observations, int stride, int count, Direction[] headings, Direction[] decisions);
+}
@@ -1,19 +1,39 @@
 package com.github.sebasman.contracts.presenter;
 
+import com.github.sebasman.contracts.model.IGameSession;
 import com.github.sebasman.contracts.model.ISnakeAPI;
 import com.github.sebasman.contracts.view.IGameContext;
+import com.github.sebasman.contracts.vo.CatchUpPolicy;
 
 /**
  * Interface for the Strategy pattern. Defines a contract for all snake control strategies (human, AI, etc.).
  */
 public interface IControlStrategy {
     /**
-     * Called on every frame of the game loop.
+     * Called on every tick of the game loop, before the snake moves.
      * Ideal for AIs that need to recalculate their movement constantly.
-     * @param game The game instance to access global data.
+     * It only receives the model, so it can also run in headless simulations.
+     * @param session The game session to access the board data.
      * @param snake The snake that this strategy should control.
      */
-    void update(IGameContext game, ISnakeAPI snake);
+    void update(IGameSession session, ISnakeAPI snake);
+
+    /**
+     * Called after a tick has been applied and the snake is still alive,
+     * with the model as it will be seen by the next call to update.
+     * Ideal for AIs that prepare their next move ahead of time. Does nothing by default.
+     * @param session The game session, already advanced.
+     * @param snake The snake that this strategy controls.
+     */
+    default void onTickApplied(IGameSession session, ISnakeAPI snake) {
+    }
+
+    /**
+     * Called when the game played by this strategy is left, to stop the threads it may have started.
+     * The strategy may still be asked to play afterward. Does nothing by default.
+     */
+    default void release() {
+    }
 
     /**
      * Called each time a key is pressed.
@@ -37,4 +57,13 @@ public interface IControlStrategy {
      * @return A value defining the update rate
      */
     float getDesiredSpeed();
+
+    /**
+     * Gets how the game loop catches up the time it falls behind while this strategy plays.
+     * By default, a few ticks are caught up at once, which keeps the game close to the wall clock.
+     * @return The catch-up policy of the game loop.
+     */
+    default CatchUpPolicy getCatchUpPolicy() {
+        return CatchUpPolicy.BOUNDED;
+    }
 }
@@ -0,0 +1,23 @@
+package com.github.sebasman.contracts.presenter;
+
+import java.util.List;
+
+/**
+ * Defines the contract for the data of the performance overlay.
+ * Exposes the lines that the View (PerformanceOverlay) draws, rebuilt only a few times
+ * per second, and a revision that changes with them, so the View can keep the text it
+ * rendered until there is something new to show.
+ */
+public interface IPerformanceReport {
+    /**
+     * Returns the lines of the report, ready to be rendered.
+     * @return The lines, not modified once returned.
+     */
+    List<String> getLines();
+
+    /**
+     * Returns the revision of the lines, increased each time they are rebuilt.
+     * @return The revision of the report.
+     */
+    long getRevision();
+}
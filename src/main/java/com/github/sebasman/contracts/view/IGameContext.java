@@ -1,5 +1,6 @@
 package com.github.sebasman.contracts.view;
 
+import com.github.sebasman.contracts.diagnostics.IProfiler;
 import com.github.sebasman.contracts.model.IGameSession;
 import com.github.sebasman.contracts.model.IUserProfile;
 import com.github.sebasman.contracts.presenter.IState;
@@ -37,6 +38,12 @@ public interface IGameContext {
      */
     IUserProfile getProfile();
 
+    /**
+     * Gets the profiler that times the phases of the game loop.
+     * @return The profiler of the application, disabled if nothing is profiled.
+     */
+    IProfiler getProfiler();
+
     // --- State stack management (flow control) methods ---
 
     /**
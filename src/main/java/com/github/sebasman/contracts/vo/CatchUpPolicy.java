@@ -0,0 +1,14 @@
+package com.github.sebasman.contracts.vo;
+
+/**
+ * Enum representing how the game loop deals with the time it falls behind,
+ * e.g. after a stalled frame or under a sustained load.
+ */
+public enum CatchUpPolicy {
+    /** A lapse longer than the limit is dropped entirely: the game freezes during the stall and resumes where it was. */
+    DROP,
+    /** The ticks owed are caught up, but never more than a few at once: the rest of the lapse is dropped. */
+    BOUNDED,
+    /** Each frame advances the game by a limited time at most: a stall or a slow machine slows the game down smoothly. */
+    DILATE
+}
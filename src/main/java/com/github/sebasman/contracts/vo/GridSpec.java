@@ -0,0 +1,39 @@
+package com.github.sebasman.contracts.vo;
+
+/**
+ * Describes the board of a game session: its number of columns and rows.
+ * Every data structure of a session (occupancy, free cells, search buffers)
+ * and the cell size used by the view are derived from it, so boards of any size
+ * can be played, including very large ones that are only simulated headless.
+ * @param width The number of columns of the board.
+ * @param height The number of rows of the board.
+ */
+public record GridSpec(int width, int height) {
+    /**
+     * Validates the dimensions of the board.
+     * @param width The number of columns of the board.
+     * @param height The number of rows of the board.
+     */
+    public GridSpec {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("Grid dimensions must be positive.");
+        if((long) width * height > Integer.MAX_VALUE) throw new IllegalArgumentException("Grid is too large to be indexed.");
+    }
+
+    /**
+     * Returns the number of cells of the board.
+     * @return width * height.
+     */
+    public int cellCount() {
+        return this.width * this.height;
+    }
+
+    /**
+     * Checks if a coordinate is inside the board.
+     * @param x Column.
+     * @param y Row.
+     * @return true if it is inside the board.
+     */
+    public boolean isInside(int x, int y) {
+        return x >= 0 && x < this.width && y >= 0 && y < this.height;
+    }
+}
@@ -18,4 +18,26 @@ public record Position(int x, int y) {
         }
         return new Position(this.x + other.x, this.y + other.y);
     }
+
+    /**
+     * Compares two positions by their coordinates.
+     * Positions taken from a {@link PositionTable} are shared, so the identity check
+     * usually decides the comparison before reading any field.
+     * @param o the object to compare with
+     * @return true if the other object is a position with the same coordinates
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof Position other && this.x == other.x && this.y == other.y;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     * @return the hash code of the coordinates
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.x + this.y;
+    }
 }
@@ -0,0 +1,107 @@
+package com.github.sebasman.contracts.vo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flyweight table with one canonical {@link Position} per cell of a board, so the
+ * steady-state moves of a game reuse the same instances instead of allocating new ones.
+ * The instance of a cell is created the first time it is requested and then shared;
+ * since positions are immutable records, two threads racing to fill the same slot
+ * only create equal instances and any of them is valid.
+ * Coordinates outside the board are not cached: they produce a new position, which
+ * only happens when the snake leaves the board, once per game.
+ * Tables are built once per board size and shared by every session.
+ */
+public final class PositionTable {
+    // Tables already built, by board size
+    private static final Map<Long, PositionTable> CACHE = new ConcurrentHashMap<>();
+    // Dimensions of the grid
+    private final int width;
+    private final int height;
+    // Canonical position of each cell, indexed by y * width + x, null until first requested
+    private final Position[] positions;
+
+    /**
+     * Builds an empty table for a grid of the given dimensions.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     */
+    private PositionTable(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.positions = new Position[width * height];
+    }
+
+    /**
+     * Returns the table of a board, building it the first time its size is requested.
+     * @param gridSpec The dimensions of the board.
+     * @return The shared table for that size.
+     */
+    public static PositionTable forGrid(GridSpec gridSpec) {
+        return forGrid(gridSpec.width(), gridSpec.height());
+    }
+
+    /**
+     * Returns the table of a grid, building it the first time its size is requested.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     * @return The shared table for that size.
+     */
+    public static PositionTable forGrid(int width, int height) {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("Grid dimensions must be positive.");
+        long key = ((long) width << 32) | height;
+        return CACHE.computeIfAbsent(key, _ -> new PositionTable(width, height));
+    }
+
+    /**
+     * Returns the position of a coordinate.
+     * @param x Column.
+     * @param y Row.
+     * @return The canonical instance if the coordinate is inside the grid, a new position otherwise.
+     */
+    public Position at(int x, int y) {
+        if(x < 0 || x >= this.width || y < 0 || y >= this.height) return new Position(x, y);
+        return this.ofCell(y * this.width + x);
+    }
+
+    /**
+     * Returns the canonical position of a cell.
+     * @param cell The cell index (y * width + x), inside the grid.
+     * @return The shared instance of the cell.
+     */
+    public Position ofCell(int cell) {
+        Position position = this.positions[cell];
+        if(position == null){
+            position = new Position(cell % this.width, cell / this.width);
+            this.positions[cell] = position;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position reached by moving one step from another one.
+     * @param from The starting position.
+     * @param direction The direction of the step.
+     * @return The canonical instance of the neighbor, or a new position if it is outside the grid.
+     */
+    public Position neighbor(Position from, Direction direction) {
+        return this.at(from.x() + direction.getDx(), from.y() + direction.getDy());
+    }
+
+    /**
+     * Returns the number of columns of the grid.
+     * @return The width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the number of rows of the grid.
+     * @return The height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+}
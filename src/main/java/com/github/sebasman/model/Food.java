@@ -1,8 +1,9 @@
 package com.github.sebasman.model;
 
 import com.github.sebasman.contracts.model.IFoodAPI;
+import com.github.sebasman.contracts.model.IFreeCellIndex;
 import com.github.sebasman.contracts.vo.Position;
-import com.github.sebasman.model.config.ModelConfig;
+import com.github.sebasman.contracts.vo.PositionTable;
 
 import java.util.*;
 
@@ -20,18 +21,26 @@ public class Food implements IFoodAPI {
      * Constructor for the Food class.
      */
     public Food(int scoreValue, Position initialPosition) {
+        this(scoreValue, initialPosition, new Random());
+    }
+
+    /**
+     * Constructor for the Food class with its own random number generator,
+     * so that the sequence of spawns can be reproduced from a seed.
+     * @param scoreValue The points given when the food is eaten.
+     * @param initialPosition The position of the first food.
+     * @param random The generator used to pick the next free cell.
+     */
+    public Food(int scoreValue, Position initialPosition, Random random) {
         this.scoreValue = Math.max(scoreValue, 1); // Ensure score value is at least 1
         Objects.requireNonNull(initialPosition);
         this.position = initialPosition;
-        this.random = new Random();
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
     }
 
     @Override
-    public void spawn(Set<Position> snakeBody) {
-        int gridWidth = ModelConfig.GRID_WIDTH;
-        int gridHeight = ModelConfig.GRID_HEIGHT;
-        int totalSpots = gridWidth * gridHeight;
-        int availableSpots = totalSpots - snakeBody.size();
+    public void spawn(IFreeCellIndex freeCells) {
+        int availableSpots = freeCells.size();
 
         if(availableSpots <= 0){
             System.out.println("¡Victory! You have eaten all the food!");
@@ -39,21 +48,9 @@ public class Food implements IFoodAPI {
             return;
         }
 
-        int targetEmptySpot = this.random.nextInt(availableSpots);
-        int emptySpotCount = 0;
-
-        for (int y = 0; y < gridHeight; y++) {
-            for (int x = 0; x < gridWidth; x++) {
-                Position currentPos = new Position(x, y);
-                if (!snakeBody.contains(currentPos)) {
-                    if (emptySpotCount == targetEmptySpot) {
-                        this.position = currentPos;
-                        return;
-                    }
-                    emptySpotCount++;
-                }
-            }
-        }
+        // Every free cell has the same chance, whatever its slot in the index.
+        int cell = freeCells.get(this.random.nextInt(availableSpots));
+        this.position = PositionTable.forGrid(freeCells.getWidth(), freeCells.getHeight()).ofCell(cell);
     }
 
     @Override
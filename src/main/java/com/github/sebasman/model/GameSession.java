@@ -1,27 +1,70 @@
 package com.github.sebasman.model;
 
+import com.github.sebasman.contracts.events.EventManager;
 import com.github.sebasman.contracts.model.IFoodAPI;
 import com.github.sebasman.contracts.model.IGameSession;
 import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.vo.GridSpec;
 import com.github.sebasman.contracts.vo.Position;
 import com.github.sebasman.model.config.ModelConfig;
 
+import java.util.Objects;
+import java.util.Random;
+
 /**
  * Contains all relevant status for a single game session.
  * Acts as the single source of truth for an ongoing game.
  */
 public final class GameSession implements IGameSession {
+    private final GridSpec gridSpec;
     private final ISnakeAPI snake;
     private final IFoodAPI food;
+    private final EventManager eventBus;
     private int score;
 
     /**
-     * Build a new Game Session
+     * Build a new Game Session on the default board
      */
     public GameSession() {
-        this.snake = new Snake(new Position(ModelConfig.GRID_WIDTH/4, ModelConfig.GRID_HEIGHT/2), 3);
-        this.food = new Food(1, new Position(3*ModelConfig.GRID_WIDTH/4, ModelConfig.GRID_HEIGHT/2));
+        this(ModelConfig.DEFAULT_GRID, new Random());
+    }
+
+    /**
+     * Build a new reproducible Game Session on the default board: two sessions with the same seed
+     * spawn the same sequence of food for the same moves.
+     * @param seed The seed of the random number generator of the food.
+     */
+    public GameSession(long seed) {
+        this(ModelConfig.DEFAULT_GRID, new Random(seed));
+    }
+
+    /**
+     * Build a new reproducible Game Session on a board of any size.
+     * @param gridSpec The dimensions of the board.
+     * @param seed The seed of the random number generator of the food.
+     */
+    public GameSession(GridSpec gridSpec, long seed) {
+        this(gridSpec, new Random(seed));
+    }
+
+    /**
+     * Build a new Game Session whose food is placed with the given generator.
+     * @param gridSpec The dimensions of the board.
+     * @param random The random number generator of the food.
+     */
+    private GameSession(GridSpec gridSpec, Random random) {
+        this.gridSpec = Objects.requireNonNull(gridSpec, "Grid specification cannot be null");
+        int width = gridSpec.width();
+        int height = gridSpec.height();
+        this.snake = new Snake(new Position(width/4, height/2), 3, gridSpec);
+        this.food = new Food(1, new Position(3*width/4, height/2), random);
         this.score = 0;
+        this.eventBus = new EventManager();
+    }
+
+    @Override
+    public GridSpec getGridSpec() {
+        return gridSpec;
     }
 
     @Override
@@ -44,4 +87,9 @@ public final class GameSession implements IGameSession {
         if(points < 0) throw new IllegalArgumentException("Points cannot be negative.");
         this.score += points;
     }
+
+    @Override
+    public EventManager getEventBus() {
+        return eventBus;
+    }
 }
@@ -1,9 +1,16 @@
 package com.github.sebasman.model;
 
+import com.github.sebasman.contracts.model.IFreeCellIndex;
+import com.github.sebasman.contracts.model.IOccupancyGrid;
 import com.github.sebasman.contracts.model.ISnakeAPI;
 import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.GridSpec;
 import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.contracts.vo.PositionTable;
+import com.github.sebasman.model.concurrent.SpscQueue;
 import com.github.sebasman.model.config.ModelConfig;
+import com.github.sebasman.model.grid.FreeCellIndex;
+import com.github.sebasman.model.grid.OccupancyGrid;
 
 import java.util.*;
 
@@ -12,28 +19,36 @@ import java.util.*;
  * The SnakeImpl class represents the snake in the game.
  */
 public class Snake implements ISnakeAPI {
-    private final List<Position> body;
-    private final List<Position> previousBody; // Stores the position of the body in the previous logical frame.
-    private final Set<Position> bodySet;
+    private final SnakeBody body; // Ring buffer of segments, also derives the body of the previous logical frame.
+    private final OccupancyGrid occupancy; // Bitboard of the cells covered by the body.
+    private final FreeCellIndex freeCells; // Complement of the occupancy, for constant-time food spawning.
+    private final PositionTable positions; // Canonical positions of the board, so moving does not allocate.
     private Direction currentDirection;
     private boolean isGrowing;
-    private final Queue<Direction> inputQueue;
+    private boolean hasHitItself;
+    // Directions buffered by the controller, possibly from another thread than the one that moves the snake
+    private final SpscQueue<Direction> inputQueue;
 
 
     /**
      * Snake constructor.
      * @param start The initial position of the head.
+     * @param initialSize The initial number of segments.
+     * @param gridSpec The dimensions of the board, from which every structure of the snake is sized.
      */
-    public Snake(final Position start, int initialSize) {
+    public Snake(final Position start, int initialSize, GridSpec gridSpec) {
+        Objects.requireNonNull(gridSpec, "Grid specification cannot be null");
         this.isGrowing = false;
+        this.hasHitItself = false;
 
-        this.body = new LinkedList<>();
-        this.previousBody = new LinkedList<>();
-        this.bodySet = new HashSet<>();
+        this.body = new SnakeBody(gridSpec.width(), gridSpec.height());
+        this.occupancy = new OccupancyGrid(gridSpec.width(), gridSpec.height());
+        this.freeCells = new FreeCellIndex(gridSpec.width(), gridSpec.height());
+        this.positions = PositionTable.forGrid(gridSpec);
         this.createBody(start, initialSize);
 
         this.currentDirection = Direction.RIGHT;
-        this.inputQueue = new LinkedList<>();
+        this.inputQueue = new SpscQueue<>(ModelConfig.INPUT_BUFFER_LIMIT);
     }
 
     /**
@@ -46,47 +61,60 @@ public class Snake implements ISnakeAPI {
         int size = Math.max(initialSize, 3); // Ensure a minimum size of 3
         for(int i = 0; i < size; i++) {
             // Create the body segments to the left of the starting position
-            Position segment = new Position(start.x() - i, start.y());
-            this.body.add(segment);
-            this.previousBody.add(segment);
-            this.bodySet.add(segment);
+            Position segment = this.positions.at(start.x() - i, start.y());
+            this.body.addLast(segment);
+            this.occupyCell(this.body.getCell(i));
         }
     }
 
     @Override
     public void update() {
         // If there are buffered inputs, process the next one
-        if(!inputQueue.isEmpty()){
-            Direction nextDirection = inputQueue.poll();
-            if(nextDirection != this.currentDirection.opposite()){
-                this.currentDirection = nextDirection;
-            }
+        Direction nextDirection = inputQueue.poll();
+        if(nextDirection != null && nextDirection != this.currentDirection.opposite()){
+            this.currentDirection = nextDirection;
         }
-        // Store the current body positions before updating
-        this.previousBody.clear();
-        this.previousBody.addAll(this.body);
+        // The current body becomes the previous one (no copy is made)
+        this.body.beginMove();
         // Calculate the new head position based on the current direction
         Position currentHead = this.getHead();
-        Position newHead = currentHead.add(new Position(currentDirection.getDx(), currentDirection.getDy()));
+        Position newHead = this.positions.neighbor(currentHead, this.currentDirection);
         // If the snake should grow, do not remove the tail.
         // If not, remove it to simulate movement.
         if(this.isGrowing){
             this.isGrowing = false; // Reset the growth flag after growing
         } else {
-            Position tail = this.body.removeLast(); // Remove the tail segment to simulate movement
-            this.bodySet.remove(tail); // Remove the tail from the set
+            int tailCell = this.body.getCell(this.body.length() - 1);
+            this.body.removeLast(); // Remove the tail segment to simulate movement
+            if(tailCell >= 0 && this.occupancy.clear(tailCell)){
+                this.freeCells.release(tailCell); // Free the cell of the tail
+            }
         }
-        // Add the new head to the front of the body
+        // Add the new head to the front of the body.
+        // If its cell is still occupied after the tail moved away, the snake has bitten itself.
         this.body.addFirst(newHead);
-        this.bodySet.add(newHead);
+        int headCell = this.body.getCell(0);
+        if(headCell >= 0 && !this.occupyCell(headCell)){
+            this.hasHitItself = true;
+        }
+    }
+
+    /**
+     * Marks a cell as covered by the body in both the occupancy grid and the free-cell index.
+     * @param cell The cell index, or -1 for a segment outside the board.
+     * @return true if the cell was free, false if it was outside the board or already occupied.
+     */
+    private boolean occupyCell(int cell) {
+        if(cell < 0 || !this.occupancy.set(cell)) return false;
+        this.freeCells.occupy(cell);
+        return true;
     }
 
     @Override
     public void bufferDirection(Direction newDirection){
         Objects.requireNonNull(newDirection, "New direction cannot be null");
-        if(inputQueue.size() < ModelConfig.INPUT_BUFFER_LIMIT){
-            inputQueue.add(newDirection);
-        }
+        // When the buffer is full, the input is dropped.
+        inputQueue.offer(newDirection);
     }
 
     @Override
@@ -94,35 +122,59 @@ public class Snake implements ISnakeAPI {
         this.isGrowing = true;
     }
 
+    @Override
+    public boolean isGrowing() {
+        return this.isGrowing;
+    }
+
     @Override
     public boolean checkCollisionWithWall() {
         Position head = this.getHead();
-        return head.x() < 0 || head.x() >= ModelConfig.GRID_WIDTH ||
-               head.y() < 0 || head.y() >= ModelConfig.GRID_HEIGHT;
+        return !this.occupancy.isInside(head.x(), head.y());
     }
 
     @Override
     public boolean checkCollisionWithSelf() {
-        return this.body.size() != this.bodySet.size();
+        return this.hasHitItself;
     }
 
     @Override
     public Position getHead() {
-        return this.body.getFirst();
+        return this.body.get(0);
     }
 
     @Override
-    public Position getTail() { return this.body.getLast(); }
+    public Position getTail() { return this.body.get(this.body.length() - 1); }
+
+    @Override
+    public List<Position> getBody() { return body.asList(); }
+
+    @Override
+    public List<Position> getPreviousBody() { return body.previousAsList(); }
+
+    @Override
+    public int getLength() { return body.length(); }
+
+    @Override
+    public Position getSegment(int index) { return body.get(index); }
+
+    @Override
+    public int getSegmentCell(int index) { return body.getCell(index); }
 
     @Override
-    public List<Position> getBody() { return body; }
+    public int getPreviousLength() { return body.previousLength(); }
 
     @Override
-    public List<Position> getPreviousBody() { return previousBody; }
+    public Position getPreviousSegment(int index) { return body.getPrevious(index); }
+
+    @Override
+    public IOccupancyGrid getOccupancy() {
+        return occupancy;
+    }
 
     @Override
-    public Set<Position> getBodySet() {
-        return bodySet;
+    public IFreeCellIndex getFreeCells() {
+        return freeCells;
     }
 
     @Override
@@ -0,0 +1,242 @@
+package com.github.sebasman.model;
+
+import com.github.sebasman.contracts.vo.Position;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Ring buffer holding the segments of the snake, from the head (index 0) to the tail.
+ * Every segment is stored both as a Position and as a packed cell index (y * width + x,
+ * or -1 when it lies outside the board), so the head can be pushed and the tail removed
+ * in O(1), and any segment can be read in O(1).
+ * The body of the previous tick is not copied: after a move it is the current body
+ * shifted by one slot, plus the tail removed in that move.
+ */
+public final class SnakeBody {
+    // Storage of the ring, its capacity is always a power of two
+    private Position[] segments;
+    private int[] cells;
+    private int mask;
+    // Slot of the head and number of segments
+    private int head;
+    private int length;
+    // Data needed to derive the previous body
+    private boolean hasMoved;
+    private int previousLength;
+    private Position lastRemovedTail;
+    // Dimensions of the board, used to pack the cells
+    private final int gridWidth;
+    private final int gridHeight;
+    // Read-only list views, created once
+    private final List<Position> bodyView;
+    private final List<Position> previousBodyView;
+
+    /**
+     * Builds an empty body for a board of the given dimensions.
+     * @param gridWidth The number of columns of the board.
+     * @param gridHeight The number of rows of the board.
+     */
+    public SnakeBody(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        this.segments = new Position[16];
+        this.cells = new int[16];
+        this.mask = 15;
+        this.head = 0;
+        this.length = 0;
+        this.hasMoved = false;
+        this.previousLength = 0;
+        this.lastRemovedTail = null;
+        this.bodyView = new BodyView(false);
+        this.previousBodyView = new BodyView(true);
+    }
+
+    // --- Mutators ---
+
+    /**
+     * Appends a segment behind the current tail. Used to build the initial body.
+     * @param segment The position of the new tail.
+     */
+    public void addLast(Position segment) {
+        this.ensureCapacity();
+        int slot = (this.head + this.length) & this.mask;
+        this.store(slot, segment);
+        this.length++;
+        if(!this.hasMoved) this.previousLength = this.length;
+    }
+
+    /**
+     * Starts a new move: the current body becomes the previous body.
+     * Must be called once per tick, before removing the tail and pushing the new head.
+     */
+    public void beginMove() {
+        this.hasMoved = true;
+        this.previousLength = this.length;
+        this.lastRemovedTail = null;
+    }
+
+    /**
+     * Removes the tail segment.
+     * @return The position of the removed tail.
+     */
+    public Position removeLast() {
+        if(this.length == 0) throw new IllegalStateException("The body is empty.");
+        int slot = (this.head + this.length - 1) & this.mask;
+        Position tail = this.segments[slot];
+        this.segments[slot] = null;
+        this.length--;
+        this.lastRemovedTail = tail;
+        return tail;
+    }
+
+    /**
+     * Pushes a new head in front of the current one.
+     * @param newHead The position of the new head.
+     */
+    public void addFirst(Position newHead) {
+        this.ensureCapacity();
+        this.head = (this.head - 1) & this.mask;
+        this.store(this.head, newHead);
+        this.length++;
+    }
+
+    // --- Current body ---
+
+    /**
+     * Returns the number of segments.
+     * @return The length of the body.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Returns a segment of the body in O(1).
+     * @param index 0 for the head, length - 1 for the tail.
+     * @return The position of the segment.
+     */
+    public Position get(int index) {
+        this.checkIndex(index, this.length);
+        return this.segments[(this.head + index) & this.mask];
+    }
+
+    /**
+     * Returns the packed cell of a segment in O(1).
+     * @param index 0 for the head, length - 1 for the tail.
+     * @return The cell index (y * width + x), or -1 if the segment is outside the board.
+     */
+    public int getCell(int index) {
+        this.checkIndex(index, this.length);
+        return this.cells[(this.head + index) & this.mask];
+    }
+
+    // --- Previous body ---
+
+    /**
+     * Returns the number of segments the body had before the last move.
+     * @return The length of the previous body.
+     */
+    public int previousLength() {
+        return this.previousLength;
+    }
+
+    /**
+     * Returns a segment of the body as it was before the last move, in O(1).
+     * @param index 0 for the previous head, previousLength - 1 for the previous tail.
+     * @return The position of the segment.
+     */
+    public Position getPrevious(int index) {
+        this.checkIndex(index, this.previousLength);
+        int shifted = this.hasMoved ? index + 1 : index;
+        return shifted < this.length ? this.get(shifted) : this.lastRemovedTail;
+    }
+
+    // --- Views ---
+
+    /**
+     * Returns a read-only, random-access view of the current body.
+     * @return A list from the head to the tail.
+     */
+    public List<Position> asList() {
+        return this.bodyView;
+    }
+
+    /**
+     * Returns a read-only, random-access view of the previous body.
+     * @return A list from the previous head to the previous tail.
+     */
+    public List<Position> previousAsList() {
+        return this.previousBodyView;
+    }
+
+    // --- Internal helpers ---
+
+    /**
+     * Writes a segment into a slot of the ring.
+     * @param slot The slot of the ring.
+     * @param segment The position to write.
+     */
+    private void store(int slot, Position segment) {
+        this.segments[slot] = segment;
+        boolean inside = segment.x() >= 0 && segment.x() < this.gridWidth
+                && segment.y() >= 0 && segment.y() < this.gridHeight;
+        this.cells[slot] = inside ? segment.y() * this.gridWidth + segment.x() : -1;
+    }
+
+    /**
+     * Doubles the ring when it is full, unrolling it so that the head is at slot 0.
+     */
+    private void ensureCapacity() {
+        if(this.length < this.segments.length) return;
+        int capacity = this.segments.length;
+        Position[] newSegments = new Position[capacity << 1];
+        int[] newCells = new int[capacity << 1];
+        int firstPart = capacity - this.head;
+        System.arraycopy(this.segments, this.head, newSegments, 0, firstPart);
+        System.arraycopy(this.segments, 0, newSegments, firstPart, this.head);
+        System.arraycopy(this.cells, this.head, newCells, 0, firstPart);
+        System.arraycopy(this.cells, 0, newCells, firstPart, this.head);
+        this.segments = newSegments;
+        this.cells = newCells;
+        this.mask = newSegments.length - 1;
+        this.head = 0;
+    }
+
+    /**
+     * Validates an index against a length.
+     * @param index The index to validate.
+     * @param size The exclusive upper bound.
+     */
+    private void checkIndex(int index, int size) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * Read-only list backed by the ring, for callers that work with collections.
+     */
+    private final class BodyView extends AbstractList<Position> implements RandomAccess {
+        private final boolean previous;
+
+        /**
+         * Builds a view of the current or the previous body.
+         * @param previous true to view the previous body.
+         */
+        private BodyView(boolean previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public Position get(int index) {
+            return this.previous ? SnakeBody.this.getPrevious(index) : SnakeBody.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.previous ? SnakeBody.this.previousLength : SnakeBody.this.length;
+        }
+    }
+}
@@ -13,6 +13,8 @@ public final class UserProfile implements IUserProfile {
     private IControlStrategy lastPlayedStrategy;
     // USER RECORD
     private int highScore;
+    // Whether the games run on the simulation thread
+    private boolean simulationThreaded;
 
     /**
      * Build a new user
@@ -31,6 +33,11 @@ public final class UserProfile implements IUserProfile {
         return highScore;
     }
 
+    @Override
+    public boolean isSimulationThreaded() {
+        return simulationThreaded;
+    }
+
     @Override
     public void setLastPlayedStrategy(IControlStrategy lastPlayedStrategy) {
         Objects.requireNonNull(lastPlayedStrategy, "Last played strategy cannot be null");
@@ -42,4 +49,9 @@ public final class UserProfile implements IUserProfile {
         if(highScore < 0) throw new IllegalArgumentException("High score cannot be negative.");
         this.highScore = highScore;
     }
+
+    @Override
+    public void setSimulationThreaded(boolean simulationThreaded) {
+        this.simulationThreaded = simulationThreaded;
+    }
 }
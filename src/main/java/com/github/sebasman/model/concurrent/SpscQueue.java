@@ -0,0 +1,85 @@
+package com.github.sebasman.model.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread and one consumer thread,
+ * which may also be the same thread. Each side only writes its own counter: the producer
+ * stores the element and then publishes its counter with a release write, and the consumer
+ * reads it with an acquire read, so an element is always fully visible when it is polled.
+ * Neither side ever blocks or allocates.
+ * @param <E> The type of the elements.
+ */
+public final class SpscQueue<E> {
+    private final Object[] elements;
+    // Number of elements ever offered, written only by the producer
+    private final AtomicLong produced;
+    // Number of elements ever polled, written only by the consumer
+    private final AtomicLong consumed;
+
+    /**
+     * Builds an empty queue.
+     * @param capacity The maximum number of elements waiting in the queue.
+     */
+    public SpscQueue(int capacity) {
+        if(capacity <= 0) throw new IllegalArgumentException("Capacity must be positive.");
+        this.elements = new Object[capacity];
+        this.produced = new AtomicLong();
+        this.consumed = new AtomicLong();
+    }
+
+    /**
+     * Adds an element at the end of the queue. Must only be called by the producer.
+     * @param element The element to add.
+     * @return false if the queue is full, in which case the element is dropped.
+     */
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        long tail = this.produced.getPlain();
+        if(tail - this.consumed.getAcquire() >= this.elements.length) return false;
+        this.elements[(int) (tail % this.elements.length)] = element;
+        this.produced.setRelease(tail + 1);
+        return true;
+    }
+
+    /**
+     * Removes the element at the head of the queue. Must only be called by the consumer.
+     * @return The oldest element, or null if the queue is empty.
+     */
+    @SuppressWarnings("unchecked") // Only elements of type E are ever stored.
+    public E poll() {
+        long head = this.consumed.getPlain();
+        if(head == this.produced.getAcquire()) return null;
+        int index = (int) (head % this.elements.length);
+        E element = (E) this.elements[index];
+        this.elements[index] = null;
+        this.consumed.setRelease(head + 1);
+        return element;
+    }
+
+    /**
+     * Returns the number of elements waiting. Exact when called by either side
+     * while the other one is idle, an estimate otherwise.
+     * @return The number of elements in the queue.
+     */
+    public int size() {
+        return (int) (this.produced.getAcquire() - this.consumed.getAcquire());
+    }
+
+    /**
+     * Checks if there is no element waiting.
+     * @return true if the queue is empty.
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     * @return The capacity.
+     */
+    public int capacity() {
+        return this.elements.length;
+    }
+}
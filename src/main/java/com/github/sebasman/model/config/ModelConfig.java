@@ -1,13 +1,18 @@
 package com.github.sebasman.model.config;
 
+import com.github.sebasman.contracts.vo.GridSpec;
+
 /**
  * Contains all configuration constants related to the Data Model
  * and the fundamental rules of the game.
  */
 public final class ModelConfig {
     // --- Board and Entities Configuration ---
+    // Dimensions of the board of the sessions played on screen
     public static final int GRID_WIDTH = 20;
     public static final int GRID_HEIGHT = 20;
+    public static final GridSpec DEFAULT_GRID = new GridSpec(GRID_WIDTH, GRID_HEIGHT);
+    // Size in pixels of a cell of the default board, also the unit of the UI layout
     public static final int BOX_SIZE = 40;
 
     // --- Snake Configuration ---
@@ -16,6 +21,14 @@ public final class ModelConfig {
     // --- Game Logic Settings ---
     public static final int STARTING_FRAME_RATE = 10;
 
+    // --- Turbo Settings ---
+    // Range of the tick rates of the AI in turbo mode
+    public static final int TURBO_MIN_SPEED = 100;
+    public static final int TURBO_MAX_SPEED = 10_000;
+    // Budget of a frame in turbo mode: ticks beyond it are dropped, not caught up
+    public static final int TURBO_MAX_TICKS_PER_FRAME = 1_000;
+    public static final long TURBO_MAX_FRAME_NANOS = 12_000_000L; // 12ms
+
     /**
      * Private builder to prevent instantiation.
      */
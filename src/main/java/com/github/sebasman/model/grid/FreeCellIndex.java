@@ -0,0 +1,96 @@
+package com.github.sebasman.model.grid;
+
+import com.github.sebasman.contracts.model.IFreeCellIndex;
+
+/**
+ * Dense array of the free cells of a board, together with a map from each cell
+ * to its slot in the array. Occupying a cell swaps it with the last free cell
+ * and shrinks the array, so both occupying and releasing are O(1).
+ */
+public final class FreeCellIndex implements IFreeCellIndex {
+    // Dimensions of the board
+    private final int width;
+    private final int height;
+    // Dense table of free cells
+    private final int[] freeCells;
+    // Slot of each cell in the dense table, or -1 if the cell is occupied
+    private final int[] slots;
+    private int size;
+
+    /**
+     * Builds an index in which every cell of the board is free.
+     * @param width Number of columns of the board.
+     * @param height Number of rows of the board.
+     */
+    public FreeCellIndex(int width, int height) {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("Grid dimensions must be positive.");
+        this.width = width;
+        this.height = height;
+        int cells = width * height;
+        this.freeCells = new int[cells];
+        this.slots = new int[cells];
+        for(int i = 0; i < cells; i++){
+            this.freeCells[i] = i;
+            this.slots[i] = i;
+        }
+        this.size = cells;
+    }
+
+    /**
+     * Removes a cell from the free set.
+     * @param index The index of the cell that becomes occupied.
+     * @return true if the cell was free, false if it was already occupied.
+     */
+    public boolean occupy(int index) {
+        int slot = this.slots[index];
+        if(slot < 0) return false;
+        // Swap-remove: the last free cell takes the slot of the occupied one.
+        int lastSlot = --this.size;
+        int lastCell = this.freeCells[lastSlot];
+        this.freeCells[slot] = lastCell;
+        this.slots[lastCell] = slot;
+        this.slots[index] = -1;
+        return true;
+    }
+
+    /**
+     * Adds a cell back to the free set.
+     * @param index The index of the cell that becomes free.
+     * @return true if the cell was occupied, false if it was already free.
+     */
+    public boolean release(int index) {
+        if(this.slots[index] >= 0) return false;
+        this.freeCells[this.size] = index;
+        this.slots[index] = this.size;
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public int getWidth() {
+        return this.width;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.height;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public int get(int rank) {
+        if(rank < 0 || rank >= this.size){
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of bounds for size " + this.size);
+        }
+        return this.freeCells[rank];
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return this.slots[index] >= 0;
+    }
+}
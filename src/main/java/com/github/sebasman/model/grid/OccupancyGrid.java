@@ -0,0 +1,188 @@
+package com.github.sebasman.model.grid;
+
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard implementation of the occupancy grid, backed by a long[] with one bit per cell.
+ * Single-cell operations are O(1) and bulk operations (copy, and-not, popcount)
+ * work a whole word (64 cells) at a time.
+ */
+public final class OccupancyGrid implements IOccupancyGrid {
+    // Dimensions of the grid
+    private final int width;
+    private final int height;
+    private final int cellCount;
+    // One bit per cell, in row-major order
+    private final long[] words;
+    // Number of bits set, maintained incrementally
+    private int cardinality;
+    // Incremented by every change of the content
+    private long version;
+
+    /**
+     * Builds an empty grid with the given dimensions.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     */
+    public OccupancyGrid(int width, int height) {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("Grid dimensions must be positive.");
+        this.width = width;
+        this.height = height;
+        this.cellCount = width * height;
+        this.words = new long[(this.cellCount + 63) >>> 6];
+        this.cardinality = 0;
+    }
+
+    // --- Single-cell operations ---
+
+    /**
+     * Marks a cell as occupied.
+     * @param index The index of the cell.
+     * @return true if the cell was free before, false if it was already occupied.
+     */
+    public boolean set(int index) {
+        long mask = 1L << index;
+        int word = index >>> 6;
+        if((this.words[word] & mask) != 0) return false;
+        this.words[word] |= mask;
+        this.cardinality++;
+        this.version++;
+        return true;
+    }
+
+    /**
+     * Marks a cell as free.
+     * @param index The index of the cell.
+     * @return true if the cell was occupied before, false if it was already free.
+     */
+    public boolean clear(int index) {
+        long mask = 1L << index;
+        int word = index >>> 6;
+        if((this.words[word] & mask) == 0) return false;
+        this.words[word] &= ~mask;
+        this.cardinality--;
+        this.version++;
+        return true;
+    }
+
+    /**
+     * Marks a coordinate as occupied. Coordinates outside the grid are ignored.
+     * @param x The column.
+     * @param y The row.
+     */
+    public void set(int x, int y) {
+        if(this.isInside(x, y)) this.set(y * this.width + x);
+    }
+
+    /**
+     * Marks a coordinate as free. Coordinates outside the grid are ignored.
+     * @param x The column.
+     * @param y The row.
+     */
+    public void clear(int x, int y) {
+        if(this.isInside(x, y)) this.clear(y * this.width + x);
+    }
+
+    // --- Bulk operations ---
+
+    /**
+     * Frees every cell.
+     */
+    public void clearAll() {
+        Arrays.fill(this.words, 0L);
+        this.cardinality = 0;
+        this.version++;
+    }
+
+    /**
+     * Copies the content of another grid of the same dimensions into this one.
+     * @param other The grid to copy.
+     */
+    public void copyFrom(IOccupancyGrid other) {
+        this.checkSameDimensions(other);
+        if(other instanceof OccupancyGrid grid){
+            System.arraycopy(grid.words, 0, this.words, 0, this.words.length);
+            this.cardinality = grid.cardinality;
+            this.version++;
+            return;
+        }
+        this.clearAll();
+        for(int i = 0; i < this.cellCount; i++){
+            if(other.isOccupied(i)) this.set(i);
+        }
+    }
+
+    /**
+     * Frees every cell that is occupied in the other grid (this = this AND NOT other).
+     * @param other The grid whose occupied cells are removed from this one.
+     */
+    public void andNot(OccupancyGrid other) {
+        this.checkSameDimensions(other);
+        for(int i = 0; i < this.words.length; i++){
+            this.words[i] &= ~other.words[i];
+        }
+        this.cardinality = this.popCount();
+        this.version++;
+    }
+
+    /**
+     * Counts the occupied cells word by word.
+     * @return The number of bits set.
+     */
+    public int popCount() {
+        int count = 0;
+        for(long word : this.words){
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // --- Queries ---
+
+    @Override
+    public int getWidth() {
+        return this.width;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.height;
+    }
+
+    @Override
+    public boolean isInside(int x, int y) {
+        return x >= 0 && x < this.width && y >= 0 && y < this.height;
+    }
+
+    @Override
+    public boolean isOccupied(int index) {
+        return (this.words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public boolean isOccupied(int x, int y) {
+        return this.isInside(x, y) && this.isOccupied(y * this.width + x);
+    }
+
+    @Override
+    public int cardinality() {
+        return this.cardinality;
+    }
+
+    @Override
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Verifies that another grid has the same dimensions as this one.
+     * @param other The grid to compare.
+     */
+    private void checkSameDimensions(IOccupancyGrid other) {
+        if(other.getWidth() != this.width || other.getHeight() != this.height){
+            throw new IllegalArgumentException("Grids must have the same dimensions.");
+        }
+    }
+}
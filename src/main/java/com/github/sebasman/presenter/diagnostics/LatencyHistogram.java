@@ -0,0 +1,134 @@
+package com.github.sebasman.presenter.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations with a fixed, log-linear layout: the values below 16 ns have a bucket
+ * each, and every power of two above is split into 16 buckets, so any duration up to centuries
+ * is counted with a relative error below 1/16 in less than a thousand counters.
+ * Recording is a few arithmetic operations on preallocated arrays and never allocates.
+ * Values are recorded by a single thread; they can be read from others, with slightly
+ * inconsistent results while a value is being recorded.
+ */
+public final class LatencyHistogram {
+    // Buckets per power of two, and its base-2 logarithm
+    private static final int SUB_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 4;
+    // Enough buckets for any positive long
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private long count;
+    private long total;
+    private long max;
+    private long last;
+
+    /**
+     * Builds an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new long[BUCKETS];
+    }
+
+    /**
+     * Counts a duration.
+     * @param nanos The duration in nanoseconds; negative values are counted as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        this.counts[bucketOf(value)]++;
+        this.count++;
+        this.total += value;
+        if(value > this.max) this.max = value;
+        this.last = value;
+    }
+
+    /**
+     * Estimates a percentile of the durations counted.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the bucket that holds the percentile, at most the maximum; 0 if empty.
+     */
+    public long getPercentile(double percentile) {
+        if(percentile < 0 || percentile > 100) throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        long total = this.count;
+        if(total == 0) return 0;
+        // Rank of the value of the percentile, from 1 to count.
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for(int bucket = 0; bucket < BUCKETS; bucket++){
+            seen += this.counts[bucket];
+            if(seen >= rank) return Math.min(upperBoundOf(bucket), this.max);
+        }
+        // Only reached if a value is being recorded at the same time.
+        return this.max;
+    }
+
+    /**
+     * Returns the number of durations counted.
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the mean of the durations counted.
+     * @return The mean in nanoseconds, 0 if empty.
+     */
+    public long getMean() {
+        long total = this.count;
+        return total == 0 ? 0 : this.total / total;
+    }
+
+    /**
+     * Returns the longest duration counted.
+     * @return The maximum in nanoseconds, 0 if empty.
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Returns the last duration counted.
+     * @return The last value in nanoseconds, 0 if empty.
+     */
+    public long getLast() {
+        return this.last;
+    }
+
+    /**
+     * Clears every count.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0);
+        this.count = 0;
+        this.total = 0;
+        this.max = 0;
+        this.last = 0;
+    }
+
+    /**
+     * Finds the bucket of a value.
+     * @param value A non-negative duration.
+     * @return The index of its bucket.
+     */
+    private static int bucketOf(long value) {
+        if(value < SUB_BUCKETS) return (int) value;
+        // Position of the highest bit, and the shift that keeps the 4 bits below it.
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value of a bucket.
+     * @param bucket The index of the bucket.
+     * @return The upper bound of the bucket, inclusive.
+     */
+    private static long upperBoundOf(int bucket) {
+        if(bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.sebasman.presenter.diagnostics;
+
+import com.github.sebasman.contracts.diagnostics.IProfiler;
+import com.github.sebasman.contracts.diagnostics.PhaseStats;
+import com.github.sebasman.contracts.diagnostics.ProfilePhase;
+
+import java.util.List;
+
+/**
+ * Profiler that records nothing, for the games that are not profiled,
+ * such as the headless simulations of the trainer.
+ */
+public final class NoOpProfiler implements IProfiler {
+    // Singleton instance of the NoOpProfiler class
+    private static final NoOpProfiler INSTANCE = new NoOpProfiler();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private NoOpProfiler() {}
+
+    /**
+     * Returns the singleton instance of NoOpProfiler.
+     * @return The singleton instance of NoOpProfiler.
+     */
+    public static NoOpProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        // There is nothing to record.
+    }
+
+    @Override
+    public long start() {
+        return 0;
+    }
+
+    @Override
+    public void stop(ProfilePhase phase, long start) {
+        // There is nothing to record.
+    }
+
+    @Override
+    public void endFrame() {
+        // There is nothing to report.
+    }
+
+    @Override
+    public PhaseStats snapshot(ProfilePhase phase) {
+        return new PhaseStats(phase, 0, 0, 0, 0, 0, 0);
+    }
+
+    @Override
+    public List<PhaseStats> snapshot() {
+        return List.of();
+    }
+
+    @Override
+    public void reset() {
+        // There is nothing to clear.
+    }
+}
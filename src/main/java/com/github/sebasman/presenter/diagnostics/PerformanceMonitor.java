@@ -0,0 +1,162 @@
+package com.github.sebasman.presenter.diagnostics;
+
+import com.github.sebasman.contracts.diagnostics.IProfiler;
+import com.github.sebasman.contracts.diagnostics.PhaseStats;
+import com.github.sebasman.contracts.diagnostics.ProfilePhase;
+import com.github.sebasman.contracts.presenter.IPerformanceReport;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Samples the performance of a game for the overlay: frames and ticks per second, the last and
+ * 99th percentile time of the AI decision, the bytes allocated per tick, the events dispatched per
+ * frame and the game time lost by the timer. The counters are cumulative and cheap to read, so
+ * a frame only adds one to a counter; the report is rebuilt from their differences a few times
+ * per second, and the overlay only re-renders its text then.
+ * The report is kept up to date even while hidden, so it can be shown right away, e.g. during a pause;
+ * while it is shown, the profiler is enabled, so the AI decision is timed.
+ */
+public final class PerformanceMonitor implements IPerformanceReport {
+    // Time between two reports
+    private static final long REFRESH_NANOS = 500_000_000L;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    // Allocation counters of the JVM, null if it does not provide them
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounters();
+
+    private final IProfiler profiler;
+    // Whether the profiler was enabled by this monitor, to disable it when the report is hidden
+    private boolean profilerEnabledHere;
+    // Thread that runs the ticks, or null if they run in the render loop
+    private Thread tickThread;
+    // Bytes allocated by the ticks run in the render loop
+    private long tickBytes;
+    // --- Counters at the start of the current window ---
+    private long windowStart;
+    private long frames;
+    private long windowTicks;
+    private long windowEvents;
+    private long windowBytes;
+    // --- Report ---
+    private List<String> lines;
+    private long revision;
+
+    /**
+     * Builds a monitor for a game.
+     * @param profiler The profiler of the game loop, read for the time of the AI decision.
+     */
+    public PerformanceMonitor(IProfiler profiler) {
+        this.profiler = Objects.requireNonNull(profiler, "Profiler cannot be null");
+        this.lines = List.of("Measuring...");
+        this.windowStart = System.nanoTime();
+    }
+
+    /**
+     * Shows or hides the report. Cheap if it does not change.
+     * @param visible true while the overlay is shown.
+     */
+    public void setVisible(boolean visible) {
+        if(visible && !this.profiler.isEnabled()){
+            this.profiler.setEnabled(true);
+            this.profilerEnabledHere = true;
+        } else if(!visible && this.profilerEnabledHere){
+            this.profiler.setEnabled(false);
+            this.profilerEnabledHere = false;
+        }
+    }
+
+    /**
+     * Selects the thread whose allocations are counted as those of the ticks.
+     * @param tickThread The thread of the simulation, or null if the ticks run in the render loop.
+     */
+    public void setTickThread(Thread tickThread) {
+        this.tickThread = tickThread;
+        this.windowBytes = this.allocatedBytes();
+    }
+
+    /**
+     * Takes the allocation counter of the render thread before running ticks.
+     * @return The bytes allocated so far by the current thread, or -1 if they are not counted.
+     */
+    public long beginTicks() {
+        if(THREADS == null || this.tickThread != null) return -1;
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Adds the bytes allocated by the ticks run since {@link #beginTicks()}.
+     * @param start The value returned by {@link #beginTicks()}.
+     */
+    public void endTicks(long start) {
+        if(start < 0) return;
+        this.tickBytes += THREADS.getCurrentThreadAllocatedBytes() - start;
+    }
+
+    /**
+     * Counts a frame, and rebuilds the report if it is due.
+     * @param ticks The number of ticks applied so far.
+     * @param events The number of events dispatched so far.
+     * @param lostNanos The game time lost by the timer so far.
+     */
+    public void onFrame(long ticks, long events, long lostNanos) {
+        this.frames++;
+        long now = System.nanoTime();
+        long elapsed = now - this.windowStart;
+        if(elapsed < REFRESH_NANOS) return;
+        long bytes = this.allocatedBytes();
+        long tickCount = ticks - this.windowTicks;
+        double seconds = elapsed / NANOS_PER_SECOND;
+        PhaseStats decision = this.profiler.snapshot(ProfilePhase.STRATEGY);
+        this.lines = List.of(
+                String.format("FPS %.1f   Ticks/s %.1f", this.frames / seconds, tickCount / seconds),
+                String.format("AI %.3f ms   p99 %.3f ms", decision.lastNanos() / NANOS_PER_MILLI, decision.p99Nanos() / NANOS_PER_MILLI),
+                bytes < 0 ? "Alloc/tick n/a"
+                        : String.format("Alloc/tick %.0f B", tickCount == 0 ? 0.0 : (double) (bytes - this.windowBytes) / tickCount),
+                String.format("Events/frame %.2f", (double) (events - this.windowEvents) / this.frames),
+                String.format("Lost %.0f ms", lostNanos / NANOS_PER_MILLI)
+        );
+        this.revision++;
+        // The next window starts now.
+        this.windowStart = now;
+        this.frames = 0;
+        this.windowTicks = ticks;
+        this.windowEvents = events;
+        this.windowBytes = bytes;
+    }
+
+    @Override
+    public List<String> getLines() {
+        return this.lines;
+    }
+
+    @Override
+    public long getRevision() {
+        return this.revision;
+    }
+
+    /**
+     * Reads the bytes allocated by the ticks so far.
+     * @return The allocation counter of the ticks, or -1 if the JVM does not count them.
+     */
+    private long allocatedBytes() {
+        if(THREADS == null) return -1;
+        if(this.tickThread == null) return this.tickBytes;
+        // -1 once the thread has ended.
+        return THREADS.getThreadAllocatedBytes(this.tickThread.threadId());
+    }
+
+    /**
+     * Looks up the allocation counters of the JVM.
+     * @return The bean that counts the bytes allocated by each thread, or null if it is not available.
+     */
+    private static com.sun.management.ThreadMXBean allocationCounters() {
+        if(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()){
+            if(!threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.sebasman.presenter.diagnostics;
+
+import com.github.sebasman.contracts.diagnostics.IProfiler;
+import com.github.sebasman.contracts.diagnostics.PhaseStats;
+import com.github.sebasman.contracts.diagnostics.ProfilePhase;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Profiler that keeps a {@link LatencyHistogram} per phase of the game loop, so the median,
+ * the 99th percentile and the maximum of each phase can be read at any time without allocating
+ * while recording. Optionally, it prints a report of every phase at a fixed interval,
+ * checked at the end of each frame, to follow a running build without attaching a profiler.
+ */
+public final class PhaseProfiler implements IProfiler {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    // One histogram per phase, indexed by its ordinal
+    private final LatencyHistogram[] histograms;
+    // Time between two reports, 0 to never report
+    private final long reportIntervalNanos;
+    private final PrintStream out;
+    private volatile boolean enabled;
+    private long lastReport;
+
+    /**
+     * Builds a profiler that never reports by itself.
+     * @param enabled true to start timing the phases right away.
+     */
+    public PhaseProfiler(boolean enabled) {
+        this(enabled, 0, System.out);
+    }
+
+    /**
+     * Builds a profiler that reports periodically.
+     * @param enabled true to start timing the phases right away.
+     * @param reportIntervalNanos The time between two reports, 0 to never report.
+     * @param out Where the reports are printed.
+     */
+    public PhaseProfiler(boolean enabled, long reportIntervalNanos, PrintStream out) {
+        if(reportIntervalNanos < 0) throw new IllegalArgumentException("Report interval cannot be negative.");
+        this.out = Objects.requireNonNull(out, "Output stream cannot be null");
+        this.reportIntervalNanos = reportIntervalNanos;
+        this.enabled = enabled;
+        this.histograms = new LatencyHistogram[ProfilePhase.values().length];
+        for(int i = 0; i < this.histograms.length; i++){
+            this.histograms[i] = new LatencyHistogram();
+        }
+        this.lastReport = System.nanoTime();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long start() {
+        return this.enabled ? System.nanoTime() : 0;
+    }
+
+    @Override
+    public void stop(ProfilePhase phase, long start) {
+        if(start == 0) return;
+        this.histograms[phase.ordinal()].record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void endFrame() {
+        if(this.reportIntervalNanos == 0 || !this.enabled) return;
+        long now = System.nanoTime();
+        if(now - this.lastReport < this.reportIntervalNanos) return;
+        this.lastReport = now;
+        this.report(this.out);
+    }
+
+    @Override
+    public PhaseStats snapshot(ProfilePhase phase) {
+        LatencyHistogram histogram = this.histograms[phase.ordinal()];
+        return new PhaseStats(phase, histogram.getCount(), histogram.getMean(),
+                histogram.getPercentile(50), histogram.getPercentile(99), histogram.getMax(), histogram.getLast());
+    }
+
+    @Override
+    public List<PhaseStats> snapshot() {
+        List<PhaseStats> stats = new ArrayList<>();
+        for(ProfilePhase phase : ProfilePhase.values()){
+            if(this.histograms[phase.ordinal()].getCount() > 0) stats.add(this.snapshot(phase));
+        }
+        return stats;
+    }
+
+    @Override
+    public void reset() {
+        for(LatencyHistogram histogram : this.histograms){
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Prints a table with the statistics of every phase timed so far, in milliseconds.
+     * @param out Where the table is printed.
+     */
+    public void report(PrintStream out) {
+        out.println("--- Profile ---");
+        out.printf("%-14s %10s %9s %9s %9s %9s%n", "Phase", "Count", "Mean", "p50", "p99", "Max");
+        for(PhaseStats stats : this.snapshot()){
+            out.printf("%-14s %10d %9.3f %9.3f %9.3f %9.3f%n", stats.phase().getLabel(), stats.count(),
+                    stats.meanNanos() / NANOS_PER_MILLI, stats.p50Nanos() / NANOS_PER_MILLI,
+                    stats.p99Nanos() / NANOS_PER_MILLI, stats.maxNanos() / NANOS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.sebasman.presenter.engine;
+
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.presenter.IBatchPolicy;
+import com.github.sebasman.contracts.presenter.IControlStrategy;
+import com.github.sebasman.contracts.vo.GridSpec;
+import com.github.sebasman.model.GameSession;
+import com.github.sebasman.model.config.ModelConfig;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays many independent games headless and in parallel, using every core of the machine.
+ * Each game owns its session, its engine and its own strategy instance (created by the
+ * supplied factory), and its food is placed by a generator seeded from the batch seed,
+ * so the results of a batch are reproducible whatever the scheduling of the workers.
+ * Game events are published on the event bus of each session and the strategies are never
+ * subscribed to the application bus, so the games share no mutable state and scale with the number of cores.
+ * Strategies that also implement {@link IBatchPolicy} play their games in lockstep groups
+ * (see {@link LockstepRunner}), one strategy per group, so each decision call covers many games.
+ */
+public final class BatchSimulator {
+    // Number of games below which a task is no longer split
+    private static final int GAMES_PER_TASK = 4;
+    // Upper bound of the games of a lockstep group, so the boards of the group stay in the cache between two steps
+    private static final int MAX_LOCKSTEP_GAMES = 64;
+
+    private final Supplier<? extends IControlStrategy> strategyFactory;
+    private final long maxTicksPerGame;
+    private final int parallelism;
+    private final GridSpec gridSpec;
+
+    /**
+     * Builds a simulator that plays on the default board and uses all the available processors.
+     * @param strategyFactory Creates a new strategy for each game.
+     * @param maxTicksPerGame The tick limit of each game, for strategies that loop forever.
+     */
+    public BatchSimulator(Supplier<? extends IControlStrategy> strategyFactory, long maxTicksPerGame) {
+        this(strategyFactory, maxTicksPerGame, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Builds a simulator that plays on the default board.
+     * @param strategyFactory Creates a new strategy for each game; it must not return shared instances.
+     * @param maxTicksPerGame The tick limit of each game, for strategies that loop forever.
+     * @param parallelism The number of worker threads.
+     */
+    public BatchSimulator(Supplier<? extends IControlStrategy> strategyFactory, long maxTicksPerGame, int parallelism) {
+        this(strategyFactory, maxTicksPerGame, parallelism, ModelConfig.DEFAULT_GRID);
+    }
+
+    /**
+     * Builds a simulator.
+     * @param strategyFactory Creates a new strategy for each game; it must not return shared instances.
+     * @param maxTicksPerGame The tick limit of each game, for strategies that loop forever.
+     * @param parallelism The number of worker threads.
+     * @param gridSpec The board of every game, of any size.
+     */
+    public BatchSimulator(Supplier<? extends IControlStrategy> strategyFactory, long maxTicksPerGame, int parallelism,
+                          GridSpec gridSpec) {
+        this.strategyFactory = Objects.requireNonNull(strategyFactory, "Strategy factory cannot be null");
+        this.gridSpec = Objects.requireNonNull(gridSpec, "Grid specification cannot be null");
+        if(maxTicksPerGame <= 0) throw new IllegalArgumentException("The tick limit must be positive.");
+        if(parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive.");
+        this.maxTicksPerGame = maxTicksPerGame;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays a batch of games and aggregates their results.
+     * @param games The number of games to play.
+     * @param seed The seed from which the seed of every game is derived.
+     * @return The statistics of the batch.
+     */
+    public BatchStatistics run(int games, long seed) {
+        if(games < 0) throw new IllegalArgumentException("The number of games cannot be negative.");
+        // The seeds are derived up front, so game i always gets the same one.
+        long[] seeds = new SplittableRandom(seed).longs(games).toArray();
+        // Batched policies get groups as large as the cache allows, split over the workers.
+        boolean lockstep = this.strategyFactory.get() instanceof IBatchPolicy;
+        int gamesPerTask = lockstep
+                ? Math.clamp((games + this.parallelism - 1) / this.parallelism, GAMES_PER_TASK, MAX_LOCKSTEP_GAMES)
+                : GAMES_PER_TASK;
+        long start = System.nanoTime();
+        BatchStatistics statistics;
+        try(ForkJoinPool pool = new ForkJoinPool(this.parallelism)){
+            statistics = pool.invoke(new GameRangeTask(seeds, 0, games, gamesPerTask, lockstep));
+        }
+        statistics.setElapsedNanos(System.nanoTime() - start);
+        return statistics;
+    }
+
+    /**
+     * Plays a single game until it ends or reaches the tick limit.
+     * @param seed The seed of the session.
+     * @return The summary of the game.
+     */
+    public SimulationResult play(long seed) {
+        IGameSession session = new GameSession(this.gridSpec, seed);
+        IControlStrategy strategy = Objects.requireNonNull(this.strategyFactory.get(), "The factory returned no strategy");
+        return new GameEngine(session, strategy).run(this.maxTicksPerGame);
+    }
+
+    /**
+     * Plays a group of games in lockstep with a single batched strategy.
+     * @param seeds The seeds of the sessions.
+     * @return The statistics of the group.
+     */
+    private BatchStatistics playLockstep(long[] seeds) {
+        IControlStrategy strategy = Objects.requireNonNull(this.strategyFactory.get(), "The factory returned no strategy");
+        LockstepRunner runner = new LockstepRunner((IBatchPolicy) strategy, this.gridSpec, seeds,
+                this.maxTicksPerGame, Long.MAX_VALUE);
+        runner.run();
+        BatchStatistics statistics = new BatchStatistics();
+        for(int i = 0; i < seeds.length; i++){
+            statistics.accept(runner.getResult(i));
+        }
+        return statistics;
+    }
+
+    /**
+     * Fork/join task that plays a range of games, splitting it in halves
+     * until it is small enough, and combines the statistics of both halves.
+     */
+    private final class GameRangeTask extends RecursiveTask<BatchStatistics> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private final long[] seeds;
+        private final int from;
+        private final int to;
+        private final int gamesPerTask;
+        private final boolean lockstep;
+
+        /**
+         * Builds a task for the games [from, to).
+         * @param seeds The seeds of every game of the batch.
+         * @param from The first game, inclusive.
+         * @param to The last game, exclusive.
+         * @param gamesPerTask The number of games below which the range is no longer split.
+         * @param lockstep Whether the range is played in lockstep by a batched strategy.
+         */
+        GameRangeTask(long[] seeds, int from, int to, int gamesPerTask, boolean lockstep) {
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+            this.gamesPerTask = gamesPerTask;
+            this.lockstep = lockstep;
+        }
+
+        @Override
+        protected BatchStatistics compute() {
+            if(this.to - this.from <= this.gamesPerTask){
+                if(this.lockstep) return playLockstep(Arrays.copyOfRange(this.seeds, this.from, this.to));
+                BatchStatistics statistics = new BatchStatistics();
+                for(int i = this.from; i < this.to; i++){
+                    statistics.accept(play(this.seeds[i]));
+                }
+                return statistics;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            GameRangeTask left = new GameRangeTask(this.seeds, this.from, middle, this.gamesPerTask, this.lockstep);
+            left.fork();
+            BatchStatistics right = new GameRangeTask(this.seeds, middle, this.to, this.gamesPerTask, this.lockstep).compute();
+            return left.join().combine(right);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.sebasman.presenter.engine;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Aggregated statistics of a batch of headless games.
+ * Each worker accumulates its own instance, and the partial results
+ * are combined at the end, so no synchronization is needed while playing.
+ */
+public final class BatchStatistics {
+    private int games;
+    private long totalScore;
+    private int maxScore;
+    private long totalLength;
+    private int maxLength;
+    private long totalTicks;
+    private long maxTicks;
+    private final EnumMap<TickOutcome, Integer> outcomes;
+    private long elapsedNanos;
+
+    /**
+     * Builds an empty set of statistics.
+     */
+    BatchStatistics() {
+        this.outcomes = new EnumMap<>(TickOutcome.class);
+    }
+
+    /**
+     * Adds the result of one game.
+     * @param result The summary of the game.
+     */
+    void accept(SimulationResult result) {
+        this.games++;
+        this.totalScore += result.score();
+        this.maxScore = Math.max(this.maxScore, result.score());
+        this.totalLength += result.length();
+        this.maxLength = Math.max(this.maxLength, result.length());
+        this.totalTicks += result.ticks();
+        this.maxTicks = Math.max(this.maxTicks, result.ticks());
+        this.outcomes.merge(result.finalOutcome(), 1, Integer::sum);
+    }
+
+    /**
+     * Merges the statistics of another worker into this one.
+     * @param other The partial statistics to add.
+     * @return This instance, with both results combined.
+     */
+    BatchStatistics combine(BatchStatistics other) {
+        this.games += other.games;
+        this.totalScore += other.totalScore;
+        this.maxScore = Math.max(this.maxScore, other.maxScore);
+        this.totalLength += other.totalLength;
+        this.maxLength = Math.max(this.maxLength, other.maxLength);
+        this.totalTicks += other.totalTicks;
+        this.maxTicks = Math.max(this.maxTicks, other.maxTicks);
+        other.outcomes.forEach((outcome, count) -> this.outcomes.merge(outcome, count, Integer::sum));
+        return this;
+    }
+
+    /**
+     * Sets the wall-clock time that the whole batch took.
+     * @param elapsedNanos The duration of the batch in nanoseconds.
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // --- Getters ---
+
+    /**
+     * Returns the number of games played.
+     * @return The number of games.
+     */
+    public int getGames() {
+        return this.games;
+    }
+
+    /**
+     * Returns the mean final score.
+     * @return The average score, or 0 without games.
+     */
+    public double getAverageScore() {
+        return this.games == 0 ? 0 : (double) this.totalScore / this.games;
+    }
+
+    /**
+     * Returns the best final score.
+     * @return The maximum score.
+     */
+    public int getMaxScore() {
+        return this.maxScore;
+    }
+
+    /**
+     * Returns the mean final length of the snake.
+     * @return The average length, or 0 without games.
+     */
+    public double getAverageLength() {
+        return this.games == 0 ? 0 : (double) this.totalLength / this.games;
+    }
+
+    /**
+     * Returns the longest snake of the batch.
+     * @return The maximum length.
+     */
+    public int getMaxLength() {
+        return this.maxLength;
+    }
+
+    /**
+     * Returns the mean number of ticks survived.
+     * @return The average ticks, or 0 without games.
+     */
+    public double getAverageTicks() {
+        return this.games == 0 ? 0 : (double) this.totalTicks / this.games;
+    }
+
+    /**
+     * Returns the longest game of the batch.
+     * @return The maximum number of ticks.
+     */
+    public long getMaxTicks() {
+        return this.maxTicks;
+    }
+
+    /**
+     * Returns the number of ticks simulated by the whole batch.
+     * @return The sum of the ticks of every game.
+     */
+    public long getTotalTicks() {
+        return this.totalTicks;
+    }
+
+    /**
+     * Returns how many games ended with each outcome (death cause, victory or tick limit).
+     * @return A read-only view of the counters, in the declaration order of the outcomes.
+     */
+    public Map<TickOutcome, Integer> getOutcomes() {
+        return Collections.unmodifiableMap(this.outcomes);
+    }
+
+    /**
+     * Returns how many games ended with an outcome.
+     * @param outcome The outcome to count.
+     * @return The number of games.
+     */
+    public int getOutcomeCount(TickOutcome outcome) {
+        return this.outcomes.getOrDefault(outcome, 0);
+    }
+
+    /**
+     * Returns the wall-clock time of the batch.
+     * @return The duration in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Returns the throughput of the batch.
+     * @return The number of games completed per second of wall-clock time.
+     */
+    public double getGamesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.games * 1e9 / this.elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d, score(avg=%.2f, max=%d), length(avg=%.2f, max=%d), " +
+                        "ticks(avg=%.1f, max=%d), outcomes=%s, %.1f games/s",
+                this.games, this.getAverageScore(), this.maxScore, this.getAverageLength(), this.maxLength,
+                this.getAverageTicks(), this.maxTicks, this.outcomes, this.getGamesPerSecond());
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.sebasman.presenter.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands frames from the simulation thread to the render thread without locks or allocations.
+ * It double-buffers the frames (the simulation fills a back frame while the renderer draws the
+ * front one) with a third, shared slot in between, so neither side ever waits for the other:
+ * publishing swaps the back frame with the shared one, and the renderer swaps its front frame
+ * with the shared one only if a newer frame was published since its last look.
+ * Frames published faster than they are drawn simply replace each other.
+ */
+public final class FrameExchange {
+    // Flag of the shared slot meaning that it holds a frame the renderer has not seen
+    private static final int FRESH = 4;
+    // Index mask of the shared slot
+    private static final int INDEX = 3;
+
+    private final FrameSnapshot[] frames;
+    // Index of the shared frame, plus the FRESH flag
+    private final AtomicInteger shared;
+    // Frame owned by the simulation thread
+    private int back;
+    // Frame owned by the render thread
+    private int front;
+
+    /**
+     * Builds the exchange with its three frames.
+     */
+    public FrameExchange() {
+        this.frames = new FrameSnapshot[]{new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()};
+        this.front = 0;
+        this.shared = new AtomicInteger(1);
+        this.back = 2;
+    }
+
+    /**
+     * Returns the frame to fill. Must only be called by the simulation thread.
+     * @return The back frame, not visible to the renderer until published.
+     */
+    public FrameSnapshot getBackFrame() {
+        return this.frames[this.back];
+    }
+
+    /**
+     * Publishes the back frame and takes another one to fill next.
+     * Must only be called by the simulation thread.
+     */
+    public void publish() {
+        this.back = this.shared.getAndSet(this.back | FRESH) & INDEX;
+    }
+
+    /**
+     * Returns the most recent frame published. Must only be called by the render thread,
+     * and the frame can be read until the next call.
+     * @return The front frame.
+     */
+    public FrameSnapshot acquire() {
+        if((this.shared.get() & FRESH) != 0){
+            this.front = this.shared.getAndSet(this.front) & INDEX;
+        }
+        return this.frames[this.front];
+    }
+}
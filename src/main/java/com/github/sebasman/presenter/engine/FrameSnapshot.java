@@ -0,0 +1,119 @@
+package com.github.sebasman.presenter.engine;
+
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.model.ISnakeView;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+
+import java.util.Arrays;
+
+/**
+ * Copy of what the renderers need from a session after a tick: the body of the snake before
+ * and after the move, its heading, the food and the score, plus the time the tick was applied
+ * so the render thread can interpolate on its own clock.
+ * Frames are recycled by {@link FrameExchange}: the simulation thread fills one it owns and
+ * hands it over, and from then on nobody writes it until the render thread gives it back,
+ * so a published frame can be read without locks.
+ */
+public final class FrameSnapshot implements ISnakeView {
+    private Position[] body;
+    private int length;
+    private Position[] previousBody;
+    private int previousLength;
+    private Direction direction;
+    private Position food;
+    private int score;
+    private long tick;
+    private long tickNanos;
+
+    /**
+     * Builds an empty frame, filled later with {@link #copyFrom}.
+     */
+    FrameSnapshot() {
+        this.body = new Position[0];
+        this.previousBody = new Position[0];
+    }
+
+    /**
+     * Copies the state of a session into this frame, growing its buffers if needed.
+     * @param session The session, not modified while it is copied.
+     * @param tick The number of ticks applied so far.
+     * @param tickNanos The value of System.nanoTime() when the tick was applied.
+     */
+    void copyFrom(IGameSession session, long tick, long tickNanos) {
+        ISnakeAPI snake = session.getSnake();
+        this.length = snake.getLength();
+        if(this.body.length < this.length) this.body = Arrays.copyOf(this.body, this.length * 2);
+        for(int i = 0; i < this.length; i++){
+            this.body[i] = snake.getSegment(i);
+        }
+        this.previousLength = snake.getPreviousLength();
+        if(this.previousBody.length < this.previousLength) this.previousBody = Arrays.copyOf(this.previousBody, this.previousLength * 2);
+        for(int i = 0; i < this.previousLength; i++){
+            this.previousBody[i] = snake.getPreviousSegment(i);
+        }
+        this.direction = snake.getDirection();
+        this.food = session.getFood().getPosition();
+        this.score = session.getScore();
+        this.tick = tick;
+        this.tickNanos = tickNanos;
+    }
+
+    @Override
+    public int getLength() {
+        return this.length;
+    }
+
+    @Override
+    public Position getSegment(int index) {
+        return this.body[index];
+    }
+
+    @Override
+    public int getPreviousLength() {
+        return this.previousLength;
+    }
+
+    @Override
+    public Position getPreviousSegment(int index) {
+        return this.previousBody[index];
+    }
+
+    @Override
+    public Direction getDirection() {
+        return this.direction;
+    }
+
+    /**
+     * Returns the position of the food.
+     * @return The food, or null if the board is full.
+     */
+    public Position getFood() {
+        return this.food;
+    }
+
+    /**
+     * Returns the score of the session.
+     * @return The score after the tick.
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Returns the tick of this frame.
+     * @return The number of ticks applied when the frame was taken.
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Returns the time the tick of this frame was applied.
+     * @return A value of System.nanoTime().
+     */
+    public long getTickNanos() {
+        return this.tickNanos;
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.sebasman.presenter.engine;
+
+import com.github.sebasman.contracts.diagnostics.IProfiler;
+import com.github.sebasman.contracts.diagnostics.ProfilePhase;
+import com.github.sebasman.contracts.model.IFoodAPI;
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.presenter.IControlStrategy;
+import com.github.sebasman.presenter.diagnostics.NoOpProfiler;
+
+import java.util.Objects;
+
+/**
+ * Steps a game session with a control strategy, one logical tick at a time.
+ * Applies the rules of the game (collisions, food eaten, growth and death) directly
+ * on the model, without any dependency on the rendering engine, so it can be driven
+ * by the PlayingState at the frame rate or run headless at maximum speed.
+ */
+public final class GameEngine {
+    private final IGameSession session;
+    private final IControlStrategy strategy;
+    // Times the decision, the move and the rules of each tick
+    private final IProfiler profiler;
+    private long ticks;
+    private TickOutcome lastOutcome;
+
+    /**
+     * Builds an engine for a session.
+     * @param session The game session to advance.
+     * @param strategy The strategy that controls the snake of the session.
+     */
+    public GameEngine(IGameSession session, IControlStrategy strategy) {
+        this(session, strategy, NoOpProfiler.getInstance());
+    }
+
+    /**
+     * Builds an engine for a session whose ticks are profiled.
+     * @param session The game session to advance.
+     * @param strategy The strategy that controls the snake of the session.
+     * @param profiler The profiler of the phases of each tick.
+     */
+    public GameEngine(IGameSession session, IControlStrategy strategy, IProfiler profiler) {
+        this.session = Objects.requireNonNull(session, "Session cannot be null");
+        this.strategy = Objects.requireNonNull(strategy, "Control strategy cannot be null");
+        this.profiler = Objects.requireNonNull(profiler, "Profiler cannot be null");
+        this.ticks = 0;
+        this.lastOutcome = TickOutcome.MOVED;
+    }
+
+    /**
+     * Advances the game by one tick: the strategy decides, the snake moves
+     * and the rules are applied. Once the snake is dead, it does nothing.
+     * @return The outcome of the tick.
+     */
+    public TickOutcome tick() {
+        if(this.isGameOver()) return this.lastOutcome;
+        ISnakeAPI snake = this.session.getSnake();
+        long start = this.profiler.start();
+        this.strategy.update(this.session, snake);
+        this.profiler.stop(ProfilePhase.STRATEGY, start);
+        // Update the snake's position based on the current direction.
+        start = this.profiler.start();
+        snake.update();
+        this.profiler.stop(ProfilePhase.SNAKE_UPDATE, start);
+        this.ticks++;
+        start = this.profiler.start();
+        this.lastOutcome = this.applyRules(snake, this.session.getFood());
+        this.profiler.stop(ProfilePhase.COLLISION, start);
+        if(this.lastOutcome == TickOutcome.MOVED || this.lastOutcome == TickOutcome.ATE_FOOD){
+            this.strategy.onTickApplied(this.session, snake);
+        }
+        return this.lastOutcome;
+    }
+
+    /**
+     * Plays until the snake dies, fills the board or the tick limit is reached.
+     * @param maxTicks The maximum number of ticks to simulate.
+     * @return The summary of the game.
+     */
+    public SimulationResult run(long maxTicks) {
+        while(!this.isGameOver() && this.lastOutcome != TickOutcome.WON_BOARD && this.ticks < maxTicks){
+            this.tick();
+        }
+        return new SimulationResult(this.session.getScore(), this.session.getSnake().getLength(),
+                this.ticks, this.lastOutcome);
+    }
+
+    /**
+     * Checks for collisions between the snake and the walls or itself,
+     * then for the food being eaten (score, growth and a new food).
+     * @param snake The snake of the session, already moved.
+     * @param food The food of the session.
+     * @return The outcome of the tick.
+     */
+    private TickOutcome applyRules(ISnakeAPI snake, IFoodAPI food) {
+        if(snake.checkCollisionWithWall()) return TickOutcome.HIT_WALL;
+        if(snake.checkCollisionWithSelf()) return TickOutcome.HIT_SELF;
+        if(!snake.getHead().equals(food.getPosition())) return TickOutcome.MOVED;
+
+        this.session.incrementScore(food.getScoreValue());
+        snake.grow();
+        food.spawn(snake.getFreeCells());
+        return food.getPosition() == null ? TickOutcome.WON_BOARD : TickOutcome.ATE_FOOD;
+    }
+
+    /**
+     * Checks if the game has ended because the snake died.
+     * @return true if no more ticks will be simulated.
+     */
+    public boolean isGameOver() {
+        return this.lastOutcome.isDeath();
+    }
+
+    /**
+     * Returns the number of ticks simulated so far.
+     * @return The tick counter.
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Returns the session advanced by this engine.
+     * @return The game session.
+     */
+    public IGameSession getSession() {
+        return this.session;
+    }
+}
@@ -1,20 +1,51 @@
 package com.github.sebasman.presenter.engine;
 
+import com.github.sebasman.contracts.vo.CatchUpPolicy;
+
+import java.util.Objects;
+
 /**
  * Manages the timing of the game loop to produce “ticks” at a constant rate.
  * This class encapsulates the delta-timing logic to decouple the game engine
  * from the rendering frame rate.
+ * In turbo mode, for rates far above the frame rate, each frame runs at most a budget of ticks
+ * within a wall-clock cap, the backlog beyond it is dropped instead of caught up, and the
+ * latest state is drawn without interpolation.
+ * When the loop falls behind, a {@link CatchUpPolicy} decides how much of the lapse is caught up;
+ * the time given up, the frames that gave it up and the jitter of the frames are counted,
+ * so the pacing of the loop can be watched without logging from it.
  */
 public final class GameLoopTimer {
     private double nsPerTick;
     private long lastTime;
     private double delta;
+    private CatchUpPolicy catchUpPolicy;
+    // --- Turbo mode ---
+    private boolean turbo;
+    private int maxTicksPerFrame;
+    private long maxFrameNanos;
+    // Ticks run and start of the current frame
+    private int frameTicks;
+    private long frameStart;
+    // --- Pacing statistics ---
+    // Duration of the previous frame, 0 if unknown
+    private long lastElapsed;
+    // Smoothed and largest change of the duration between consecutive frames
+    private double jitterNanos;
+    private long maxJitterNanos;
+    // Frames that gave up time, and the game time given up, which other threads may read
+    private long overrunCount;
+    private volatile long lostNanos;
     /**
      * The maximum time allowed for a frame in nanoseconds before it is considered
-     * an anomalous “jump” (e.g., 200 ms). If the elapsed time is greater than this,
-     * the timer will be reset to avoid the “catch-up.”
+     * an anomalous “jump” (e.g., 200 ms). With the DROP policy, a longer lapse is ignored
+     * to avoid the “catch-up”; with DILATE, a frame never advances the game by more than this.
      */
     private static final long MAX_FRAME_TICKS_NS = 100_000_000; // 100ms
+    // Ticks owed at most with the BOUNDED policy, outside turbo mode
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    // Weight of the last frame in the smoothed jitter (1/16, as in RFC 3550)
+    private static final double JITTER_GAIN = 1.0 / 16;
 
     /**
      * Constructs a new timer with an initial ticks per second rate.
@@ -24,6 +55,7 @@ public final class GameLoopTimer {
         this.setTicksPerSecond(ticksPerSecond);
         this.lastTime = System.nanoTime();
         this.delta = 0;
+        this.catchUpPolicy = CatchUpPolicy.BOUNDED;
     }
 
     /**
@@ -33,18 +65,46 @@ public final class GameLoopTimer {
     public void update(){
         long now = System.nanoTime();
         long elapsedTime = now - lastTime;
-        // If too much time has passed, that lapse is ignored and the time starting point is simply reset.
-        if(elapsedTime > MAX_FRAME_TICKS_NS){
-            System.out.println("WARN: Salto de tiempo detectado. Reseteando el temporizador para evitar 'catch-up'.");
-            lastTime = now;
-            return;
-        }
-        this.delta += elapsedTime / nsPerTick;
         lastTime = now;
+        this.frameStart = now;
+        this.frameTicks = 0;
+        this.recordJitter(elapsedTime);
+        // Game time this frame is allowed to advance, according to the policy.
+        long kept = switch (this.catchUpPolicy) {
+            // If too much time has passed, that lapse is ignored and the count simply goes on from now.
+            case DROP -> elapsedTime > MAX_FRAME_TICKS_NS ? 0 : elapsedTime;
+            case BOUNDED -> elapsedTime;
+            case DILATE -> Math.min(elapsedTime, MAX_FRAME_TICKS_NS);
+        };
+        double owed = this.delta + kept / nsPerTick;
+        // In turbo, a frame never owes more ticks than its budget.
+        double limit = this.turbo ? this.maxTicksPerFrame
+                : this.catchUpPolicy == CatchUpPolicy.BOUNDED ? MAX_CATCH_UP_TICKS : Double.MAX_VALUE;
+        long lost = elapsedTime - kept;
+        if(owed > limit){
+            lost += (long) ((owed - limit) * nsPerTick);
+            owed = limit;
+        }
+        this.delta = owed;
+        if(lost > 0) this.recordOverrun(lost);
     }
 
+    /**
+     * Checks if a tick is pending and consumes it.
+     * @return true if the game logic must be updated once more in this frame.
+     */
     public boolean shouldTick(){
+        if(this.turbo && (this.frameTicks >= this.maxTicksPerFrame
+                || System.nanoTime() - this.frameStart >= this.maxFrameNanos)){
+            // Out of budget: the ticks that did not fit are dropped, so the game slows down instead of piling up.
+            if(this.delta > 1){
+                this.recordOverrun((long) ((this.delta - 1) * nsPerTick));
+                this.delta = 1;
+            }
+            return false;
+        }
         if(delta >= 1){
+            this.frameTicks++;
             delta--;
             return true;
         }
@@ -57,9 +117,67 @@ public final class GameLoopTimer {
      * @return a value between 0.0 and 1.0.
      */
     public float getInterpolation(){
+        // In turbo, several ticks run per frame: the latest state is drawn as is.
+        if(this.turbo) return 1f;
         return (float) delta;
     }
 
+    /**
+     * Enables or disables the turbo mode.
+     * @param turbo true to run several ticks per frame without interpolation.
+     * @param maxTicksPerFrame The maximum number of ticks of a frame.
+     * @param maxFrameNanos The wall-clock time after which no more ticks are run in a frame.
+     */
+    public void setTurbo(boolean turbo, int maxTicksPerFrame, long maxFrameNanos){
+        if(maxTicksPerFrame <= 0 || maxFrameNanos <= 0) throw new IllegalArgumentException("The turbo budget must be positive.");
+        this.turbo = turbo;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+        this.maxFrameNanos = maxFrameNanos;
+    }
+
+    /**
+     * Selects how the time the loop falls behind is caught up.
+     * @param catchUpPolicy The new policy, BOUNDED by default.
+     */
+    public void setCatchUpPolicy(CatchUpPolicy catchUpPolicy){
+        this.catchUpPolicy = Objects.requireNonNull(catchUpPolicy, "Catch-up policy cannot be null");
+    }
+
+    /**
+     * Returns how the time the loop falls behind is caught up.
+     * @return The current policy.
+     */
+    public CatchUpPolicy getCatchUpPolicy(){
+        return this.catchUpPolicy;
+    }
+
+    /**
+     * Checks if the timer is in turbo mode.
+     * @return true if several ticks may run per frame.
+     */
+    public boolean isTurbo(){
+        return this.turbo;
+    }
+
+    /**
+     * Returns the time left until the next tick is due, to sleep until then.
+     * @return The nanoseconds until the next tick, 0 if one is already pending.
+     */
+    public long getNanosUntilNextTick(){
+        return delta >= 1 ? 0 : (long) ((1 - delta) * nsPerTick);
+    }
+
+    /**
+     * Restarts the count from now, dropping the time elapsed since the last update,
+     * e.g. when the game loop resumes after a pause.
+     */
+    public void reset(){
+        this.lastTime = System.nanoTime();
+        this.delta = 0;
+        // The next frame follows a pause, not the previous frame.
+        this.lastElapsed = 0;
+    }
+
     /**
      * Changes the speed of the game timer.
      * @param ticksPerSecond The new rate of updates per second.
@@ -68,4 +186,63 @@ public final class GameLoopTimer {
         if(ticksPerSecond <= 0) return;
         this.nsPerTick = 1_000_000_000.0 / ticksPerSecond;
     }
+
+    // --- Pacing statistics ---
+
+    /**
+     * Returns the smoothed jitter of the frames.
+     * @return The typical change of the duration between consecutive frames, in nanoseconds.
+     */
+    public long getJitterNanos(){
+        return (long) this.jitterNanos;
+    }
+
+    /**
+     * Returns the largest jitter seen between two frames.
+     * @return The largest change of the duration between consecutive frames, in nanoseconds.
+     */
+    public long getMaxJitterNanos(){
+        return this.maxJitterNanos;
+    }
+
+    /**
+     * Returns the number of frames that could not catch up all the time they were behind.
+     * @return The overrun counter.
+     */
+    public long getOverrunCount(){
+        return this.overrunCount;
+    }
+
+    /**
+     * Returns the game time given up by the catch-up policy and the turbo budget,
+     * i.e. how far the game lags behind the wall clock. Unlike the other statistics,
+     * it can be read from a thread other than the one that updates the timer.
+     * @return The time given up, in nanoseconds.
+     */
+    public long getLostNanos(){
+        return this.lostNanos;
+    }
+
+    /**
+     * Updates the jitter with the duration of a frame.
+     * @param elapsedTime The time since the previous frame.
+     */
+    private void recordJitter(long elapsedTime){
+        if(this.lastElapsed > 0){
+            long change = Math.abs(elapsedTime - this.lastElapsed);
+            this.jitterNanos += (change - this.jitterNanos) * JITTER_GAIN;
+            this.maxJitterNanos = Math.max(this.maxJitterNanos, change);
+        }
+        this.lastElapsed = elapsedTime;
+    }
+
+    /**
+     * Counts a frame that gave up game time.
+     * @param lost The time given up, in nanoseconds.
+     */
+    private void recordOverrun(long lost){
+        this.overrunCount++;
+        // Only the thread that updates the timer writes it, so the increment needs no atomic operation.
+        this.lostNanos += lost;
+    }
 }
@@ -0,0 +1,186 @@
+package com.github.sebasman.presenter.engine;
+
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.presenter.IBatchPolicy;
+import com.github.sebasman.contracts.presenter.IControlStrategy;
+import com.github.sebasman.contracts.view.IGameContext;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.GridSpec;
+import com.github.sebasman.model.GameSession;
+import com.github.sebasman.model.config.ModelConfig;
+
+import java.util.Objects;
+
+/**
+ * Plays a group of games in lockstep with a batched policy. On every step, the observations
+ * of the games still running are gathered into one matrix (one column per game), the policy
+ * decides all their moves in a single call, and each game advances one tick with its own engine.
+ * Finished games are compacted out of the matrix, so the batch shrinks as the games end.
+ * The buffers are allocated once for the group, and an instance is not thread-safe:
+ * parallel workers use one runner each, with their own policy.
+ */
+public final class LockstepRunner {
+    private final IBatchPolicy policy;
+    private final GameEngine[] engines;
+    private final long maxTicksPerGame;
+    private final long starvationTicks;
+    // Tick of the last meal of each game, for the starvation limit
+    private final long[] lastMeal;
+    private final TickOutcome[] lastOutcomes;
+    // Game of each column of the matrix, the first runningCount ones are still playing
+    private final int[] running;
+    private int runningCount;
+    // Batch buffers, one column per game
+    private final float[] observations;
+    private final Direction[] headings;
+    private final Direction[] decisions;
+    private long decisionCount;
+
+    /**
+     * Builds the sessions of the group.
+     * @param policy The policy that decides every game of the group.
+     * @param gridSpec The board of every game.
+     * @param seeds The seed of the session of each game.
+     * @param maxTicksPerGame The tick limit of each game.
+     * @param starvationTicks The ticks without eating after which a game is stopped; Long.MAX_VALUE for no limit.
+     */
+    public LockstepRunner(IBatchPolicy policy, GridSpec gridSpec, long[] seeds, long maxTicksPerGame, long starvationTicks) {
+        this.policy = Objects.requireNonNull(policy, "Batch policy cannot be null");
+        Objects.requireNonNull(gridSpec, "Grid specification cannot be null");
+        if(maxTicksPerGame <= 0 || starvationTicks <= 0) throw new IllegalArgumentException("The tick limits must be positive.");
+        this.maxTicksPerGame = maxTicksPerGame;
+        this.starvationTicks = starvationTicks;
+        int games = seeds.length;
+        this.engines = new GameEngine[games];
+        this.lastMeal = new long[games];
+        this.lastOutcomes = new TickOutcome[games];
+        this.running = new int[games];
+        for(int i = 0; i < games; i++){
+            this.engines[i] = new GameEngine(new GameSession(gridSpec, seeds[i]), BufferedMoves.INSTANCE);
+            this.lastOutcomes[i] = TickOutcome.MOVED;
+            this.running[i] = i;
+        }
+        this.runningCount = games;
+        this.observations = new float[policy.getObservationSize() * games];
+        this.headings = new Direction[games];
+        this.decisions = new Direction[games];
+    }
+
+    /**
+     * Plays every game of the group until it ends.
+     */
+    public void run() {
+        while(this.step()){
+            // Each step advances all the running games.
+        }
+    }
+
+    /**
+     * Decides the moves of the running games in one batch and advances each of them one tick.
+     * @return true if some game is still running.
+     */
+    public boolean step() {
+        int count = this.runningCount;
+        if(count == 0) return false;
+        int stride = this.engines.length;
+        for(int column = 0; column < count; column++){
+            IGameSession session = this.engines[this.running[column]].getSession();
+            ISnakeAPI snake = session.getSnake();
+            this.policy.observe(session, snake, this.observations, column, stride);
+            this.headings[column] = snake.getDirection();
+        }
+        this.policy.decide(this.observations, stride, count, this.headings, this.decisions);
+        this.decisionCount += count;
+
+        int kept = 0;
+        for(int column = 0; column < count; column++){
+            int game = this.running[column];
+            GameEngine engine = this.engines[game];
+            engine.getSession().getSnake().bufferDirection(this.decisions[column]);
+            TickOutcome outcome = engine.tick();
+            this.lastOutcomes[game] = outcome;
+            if(outcome.isFoodEaten()) this.lastMeal[game] = engine.getTicks();
+            if(!this.isFinished(engine, outcome, this.lastMeal[game])) this.running[kept++] = game;
+        }
+        this.runningCount = kept;
+        return kept > 0;
+    }
+
+    /**
+     * Checks if a game must stop after a tick.
+     * @param engine The engine of the game.
+     * @param outcome The outcome of the tick.
+     * @param lastMeal The tick of the last meal of the game.
+     * @return true if the snake died, filled the board, or a limit was reached.
+     */
+    private boolean isFinished(GameEngine engine, TickOutcome outcome, long lastMeal) {
+        return engine.isGameOver() || outcome == TickOutcome.WON_BOARD
+                || engine.getTicks() >= this.maxTicksPerGame
+                || engine.getTicks() - lastMeal >= this.starvationTicks;
+    }
+
+    /**
+     * Returns the summary of a game, final once the game is no longer running.
+     * @param game The index of the game, in the order of the seeds.
+     * @return The summary of the game so far.
+     */
+    public SimulationResult getResult(int game) {
+        GameEngine engine = this.engines[game];
+        IGameSession session = engine.getSession();
+        return new SimulationResult(session.getScore(), session.getSnake().getLength(),
+                engine.getTicks(), this.lastOutcomes[game]);
+    }
+
+    /**
+     * Returns the number of games of the group.
+     * @return The number of seeds.
+     */
+    public int getGameCount() {
+        return this.engines.length;
+    }
+
+    /**
+     * Returns the number of games still running.
+     * @return The number of columns of the next batch.
+     */
+    public int getRunningCount() {
+        return this.runningCount;
+    }
+
+    /**
+     * Returns the number of moves decided so far, over all the games.
+     * @return The decision counter.
+     */
+    public long getDecisionCount() {
+        return this.decisionCount;
+    }
+
+    /**
+     * Strategy of the engines of a lockstep group: the moves are buffered by the runner
+     * from the batched decisions before each tick, so there is nothing left to decide.
+     */
+    private static final class BufferedMoves implements IControlStrategy {
+        private static final BufferedMoves INSTANCE = new BufferedMoves();
+
+        @Override
+        public void update(IGameSession session, ISnakeAPI snake) {
+            // The move was already buffered by the runner.
+        }
+
+        @Override
+        public void keyPressed(IGameContext game, ISnakeAPI snake, int keyCode) {
+            // Headless games have no keyboard.
+        }
+
+        @Override
+        public boolean isGameStartAction(int keyCode) {
+            return false;
+        }
+
+        @Override
+        public float getDesiredSpeed() {
+            return ModelConfig.STARTING_FRAME_RATE;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.sebasman.presenter.engine;
+
+/**
+ * Summary of a game played by the headless engine.
+ * @param score The final score of the session.
+ * @param length The final length of the snake.
+ * @param ticks The number of ticks the game lasted.
+ * @param finalOutcome The outcome of the last tick: a death, a board victory,
+ *                     or MOVED/ATE_FOOD if the game was stopped by the tick limit.
+ */
+public record SimulationResult(int score, int length, long ticks, TickOutcome finalOutcome) {
+    /**
+     * Checks if the game was cut by the tick limit instead of ending on its own.
+     * @return true if the snake was still alive when the simulation stopped.
+     */
+    public boolean reachedTickLimit() {
+        return !this.finalOutcome.isDeath() && this.finalOutcome != TickOutcome.WON_BOARD;
+    }
+}
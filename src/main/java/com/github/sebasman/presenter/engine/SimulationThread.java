@@ -0,0 +1,214 @@
+package com.github.sebasman.presenter.engine;
+
+import com.github.sebasman.contracts.vo.CatchUpPolicy;
+import com.github.sebasman.model.concurrent.SpscQueue;
+
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the fixed-step simulation of a game on its own thread, so the ticks of the game are
+ * not delayed by the cost of drawing a frame, and frames are not delayed by the cost of a tick.
+ * The thread shares nothing mutable with the render thread except through lock-free channels:
+ * <ul>
+ *     <li>the directions typed by the player reach the snake through its single-producer queue;</li>
+ *     <li>after each tick a {@link FrameSnapshot} is published through a {@link FrameExchange};</li>
+ *     <li>the outcomes the application reacts to (food eaten, death) are queued back to the
+ *     render thread, which publishes their game events itself, so their listeners keep running
+ *     on the render thread;</li>
+ *     <li>the counters of the timer read by the monitor are volatile.</li>
+ * </ul>
+ * The events a strategy publishes from its update, such as AiPathUpdatedEvent, are the exception:
+ * they are dispatched on this thread, so their listeners must be thread-safe. The only one,
+ * the PathRenderer, just stores the path, a list never modified once published, in a volatile field.
+ * The thread stops by itself when the snake dies.
+ */
+public final class SimulationThread {
+    // Longest sleep between two looks at the clock, well below the jump threshold of the timer
+    private static final long MAX_PARK_NANOS = 10_000_000L;
+    // Sleep while the render thread has not drained the outcomes yet
+    private static final long BACKOFF_NANOS = 1_000_000L;
+    // Outcomes waiting for the render thread
+    private static final int OUTCOME_CAPACITY = 64;
+
+    private final GameEngine engine;
+    private final GameLoopTimer timer;
+    private final double nsPerTick;
+    private final FrameExchange frames;
+    private final SpscQueue<TickOutcome> outcomes;
+    private final Thread thread;
+    private volatile boolean running;
+    private volatile boolean paused;
+    // Error thrown by the simulation, reported on the render thread
+    private volatile RuntimeException failure;
+
+    /**
+     * Builds the simulation of a game and publishes its initial frame.
+     * @param engine The engine of the game; from now on it is only used by the simulation thread.
+     * @param ticksPerSecond The number of ticks per second.
+     */
+    public SimulationThread(GameEngine engine, int ticksPerSecond) {
+        this.engine = Objects.requireNonNull(engine, "Engine cannot be null");
+        if(ticksPerSecond <= 0) throw new IllegalArgumentException("The tick rate must be positive.");
+        this.timer = new GameLoopTimer(ticksPerSecond);
+        this.nsPerTick = 1_000_000_000.0 / ticksPerSecond;
+        this.frames = new FrameExchange();
+        this.outcomes = new SpscQueue<>(OUTCOME_CAPACITY);
+        this.publishFrame();
+        this.thread = new Thread(this::loop, "simulation");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Runs the ticks in turbo mode: each wake-up of the thread runs a bounded number of ticks,
+     * and the backlog beyond it is dropped. Must be called before {@link #start()}.
+     * @param maxTicksPerWakeUp The maximum number of ticks run between two sleeps.
+     * @param maxWakeUpNanos The wall-clock time after which the thread stops ticking until its next wake-up.
+     */
+    public void setTurbo(int maxTicksPerWakeUp, long maxWakeUpNanos) {
+        if(this.thread.isAlive()) throw new IllegalStateException("The simulation is already running.");
+        this.timer.setTurbo(true, maxTicksPerWakeUp, maxWakeUpNanos);
+    }
+
+    /**
+     * Selects how the ticks the thread falls behind are caught up. Must be called before {@link #start()}.
+     * @param catchUpPolicy The catch-up policy of the timer.
+     */
+    public void setCatchUpPolicy(CatchUpPolicy catchUpPolicy) {
+        if(this.thread.isAlive()) throw new IllegalStateException("The simulation is already running.");
+        this.timer.setCatchUpPolicy(catchUpPolicy);
+    }
+
+    /**
+     * Starts ticking the game.
+     */
+    public void start() {
+        this.running = true;
+        this.thread.start();
+    }
+
+    /**
+     * Suspends the ticks, e.g. while the game is paused.
+     */
+    public void pause() {
+        this.paused = true;
+    }
+
+    /**
+     * Resumes the ticks after a pause; the paused time is not caught up. Cheap if not paused.
+     */
+    public void resume() {
+        if(this.paused){
+            this.paused = false;
+            LockSupport.unpark(this.thread);
+        }
+    }
+
+    /**
+     * Stops the simulation and waits for its thread to end.
+     */
+    public void stop() {
+        this.running = false;
+        LockSupport.unpark(this.thread);
+        try {
+            this.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes the next outcome the application must react to. Must only be called by the render thread.
+     * @return A tick outcome that ate food or ended the game, or null if there is none.
+     * @throws IllegalStateException if the simulation failed.
+     */
+    public TickOutcome pollOutcome() {
+        RuntimeException error = this.failure;
+        if(error != null) throw new IllegalStateException("The simulation thread failed.", error);
+        return this.outcomes.poll();
+    }
+
+    /**
+     * Returns the latest frame of the game. Must only be called by the render thread.
+     * @return The frame, valid until the next call.
+     */
+    public FrameSnapshot acquireFrame() {
+        return this.frames.acquire();
+    }
+
+    /**
+     * Returns the thread that runs the ticks, e.g. to read its allocation counters.
+     * @return The simulation thread.
+     */
+    public Thread getThread() {
+        return this.thread;
+    }
+
+    /**
+     * Returns the game time lost by the timer of the simulation, updated by its thread.
+     * Safe to call from any thread.
+     * @return The time given up, in nanoseconds.
+     */
+    public long getLostNanos() {
+        return this.timer.getLostNanos();
+    }
+
+    /**
+     * Calculates how far the game is between a frame and the next tick, to interpolate the movement.
+     * @param frame The frame being drawn.
+     * @param now The value of System.nanoTime() of the render.
+     * @return A value between 0.0 and 1.0.
+     */
+    public float getInterpolation(FrameSnapshot frame, long now) {
+        double fraction = (now - frame.getTickNanos()) / this.nsPerTick;
+        return (float) Math.clamp(fraction, 0.0, 1.0);
+    }
+
+    /**
+     * Body of the thread: ticks the game at a fixed rate and sleeps in between.
+     */
+    private void loop() {
+        try {
+            this.timer.reset();
+            while(this.running){
+                if(this.paused){
+                    LockSupport.park(this);
+                    this.timer.reset();
+                    continue;
+                }
+                this.timer.update();
+                while(this.running && this.timer.shouldTick()){
+                    TickOutcome outcome = this.engine.tick();
+                    this.publishFrame();
+                    if(outcome != TickOutcome.MOVED) this.enqueue(outcome);
+                    // The game is over: there is nothing left to simulate.
+                    if(outcome.isDeath()) return;
+                }
+                LockSupport.parkNanos(this, Math.min(this.timer.getNanosUntilNextTick(), MAX_PARK_NANOS));
+            }
+        } catch (RuntimeException e) {
+            this.failure = e;
+        }
+    }
+
+    /**
+     * Copies the session into the back frame and publishes it.
+     */
+    private void publishFrame() {
+        this.frames.getBackFrame().copyFrom(this.engine.getSession(), this.engine.getTicks(), System.nanoTime());
+        this.frames.publish();
+    }
+
+    /**
+     * Queues an outcome for the render thread. If the render thread is too far behind, a meal is
+     * dropped rather than stalling the game, since the next meal publishes the latest score anyway;
+     * a death waits until it fits, as it must end the game.
+     * @param outcome The outcome of a tick.
+     */
+    private void enqueue(TickOutcome outcome) {
+        if(this.outcomes.offer(outcome) || !outcome.isDeath()) return;
+        while(!this.outcomes.offer(outcome) && this.running){
+            LockSupport.parkNanos(this, BACKOFF_NANOS);
+        }
+    }
+}
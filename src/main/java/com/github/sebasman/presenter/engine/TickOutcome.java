@@ -0,0 +1,33 @@
+package com.github.sebasman.presenter.engine;
+
+/**
+ * Result of advancing a game session by one logical tick.
+ */
+public enum TickOutcome {
+    /** The snake moved and nothing else happened. */
+    MOVED,
+    /** The snake ate the food, grew and a new food was spawned. */
+    ATE_FOOD,
+    /** The snake ate the last food: there is no free cell left on the board. */
+    WON_BOARD,
+    /** The snake left the board. */
+    HIT_WALL,
+    /** The snake bit its own body. */
+    HIT_SELF;
+
+    /**
+     * Checks if this outcome ends the game because the snake died.
+     * @return true for a collision with a wall or with itself.
+     */
+    public boolean isDeath() {
+        return this == HIT_WALL || this == HIT_SELF;
+    }
+
+    /**
+     * Checks if food was eaten during the tick.
+     * @return true if the snake ate, including the last food of the board.
+     */
+    public boolean isFoodEaten() {
+        return this == ATE_FOOD || this == WON_BOARD;
+    }
+}
@@ -1,7 +1,6 @@
 package com.github.sebasman.presenter.listeners;
 
 
-import com.github.sebasman.contracts.events.EventManager;
 import com.github.sebasman.contracts.events.types.ScoreUpdatedEvent;
 import com.github.sebasman.contracts.model.IGameSession;
 import com.github.sebasman.contracts.model.IUserProfile;
@@ -10,9 +9,10 @@ import com.github.sebasman.contracts.events.types.FoodEatenEvent;
 import com.github.sebasman.presenter.states.GameOverState;
 
 /**
- * Contains the business logic of the game that events trigger.
- * Updates model state (GameSession, UserProfile) and publishes new
- * events as a result (e.g., ScoreUpdatedEvent).
+ * Contains the application logic that game events trigger.
+ * The rules of the game (score, growth, new food) are applied by the GameEngine;
+ * this coordinator updates the UserProfile and publishes new events
+ * as a result (e.g., ScoreUpdatedEvent).
  */
 public class GameLogicCoordinator {
     private final IGameContext game;
@@ -30,24 +30,20 @@ public class GameLogicCoordinator {
 
     /**
      * Logic to be executed when the snake eats.
-     * Gets the current state of the session from the game context.
-     * @param event The event that contains the relevant data (although in this version it is not used).
+     * The score is taken from the event rather than from the session,
+     * whose model may be owned by the simulation thread.
+     * @param event The event that contains the score reached with the meal.
      */
     public void onFoodEaten(FoodEatenEvent event) {
         IGameSession session = game.getSession();
         IUserProfile profile = game.getProfile();
         if (session == null || profile == null) return;
-        // Increases the score of the current session.
-        session.incrementScore(event.food().getScoreValue());
         // Compare with the high score and update the profile if necessary.
-        if(session.getScore() > profile.getHighScore()){
-            profile.setHighScore(session.getScore());
+        if(event.score() > profile.getHighScore()){
+            profile.setHighScore(event.score());
         }
         // Notifies a new event with BOTH scores for the UI to receive.
-        EventManager.getInstance().notify(new ScoreUpdatedEvent(session.getScore(), profile.getHighScore()));
-        // Execute the rest of the game logic.
-        session.getSnake().grow();
-        session.getFood().spawn(session.getSnake().getBodySet());
+        session.getEventBus().notify(new ScoreUpdatedEvent(event.score(), profile.getHighScore()));
     }
 
     /**
@@ -2,6 +2,7 @@ package com.github.sebasman.presenter.states;
 
 import com.github.sebasman.contracts.view.IGameContext;
 import com.github.sebasman.contracts.presenter.IState;
+import com.github.sebasman.model.config.ModelConfig;
 import com.github.sebasman.view.config.ViewConfig;
 import com.github.sebasman.view.render.GameUiStatic;
 import com.github.sebasman.view.render.GameWorldRenderer;
@@ -9,6 +10,7 @@ import com.github.sebasman.view.UiManager;
 import com.github.sebasman.contracts.view.ILayout;
 import com.github.sebasman.view.layout.VerticalLayout;
 import com.github.sebasman.presenter.strategies.FollowFoodStrategy;
+import com.github.sebasman.presenter.strategies.HamiltonianStrategy;
 import com.github.sebasman.presenter.strategies.HumanControlStrategy;
 import com.github.sebasman.view.assets.Assets;
 import com.github.sebasman.view.components.Button;
@@ -116,6 +118,12 @@ public final class MenuState implements IState {
         menuLayout.add(new Button("Watch AI Play", Assets.watchAIImage,
                 () -> game.changeState(
                         new PreparingState(new FollowFoodStrategy()))));
+        // The cycle AI is only offered on boards that have a Hamiltonian cycle.
+        if(HamiltonianStrategy.supports(ModelConfig.DEFAULT_GRID)){
+            menuLayout.add(new Button("Watch Cycle AI", Assets.watchAIImage,
+                    () -> game.changeState(
+                            new PreparingState(new HamiltonianStrategy()))));
+        }
 
         manager.addLayout(menuLayout);
         return manager;
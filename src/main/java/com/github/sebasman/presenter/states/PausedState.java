@@ -9,6 +9,7 @@ import com.github.sebasman.view.layout.VerticalLayout;
 import com.github.sebasman.view.assets.Assets;
 import com.github.sebasman.view.components.Button;
 import com.github.sebasman.view.config.ColorPalette;
+import com.github.sebasman.view.render.PerformanceOverlay;
 import processing.core.PApplet;
 import processing.core.PImage;
 
@@ -81,11 +82,17 @@ public final class PausedState implements IState {
         if(this.uiManager != null) {
             this.uiManager.draw(renderer);
         }
+        // The numbers of the game, as they were when it was paused.
+        PerformanceOverlay.getInstance().render(renderer);
     }
 
     @Override
     public void keyPressed(IGameContext game, int keyCode) {
         PApplet renderer = game.getRenderer();
+        if(keyCode == ViewConfig.PERFORMANCE_OVERLAY_KEY) {
+            PerformanceOverlay.getInstance().toggle();
+            return;
+        }
         if(Character.toLowerCase(renderer.key) == 'p' || renderer.key == ' ') {
             game.popState(); // Pops the PausedState off the stack and returns to PlayingState.
         }
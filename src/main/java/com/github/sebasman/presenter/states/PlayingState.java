@@ -1,22 +1,32 @@
 package com.github.sebasman.presenter.states;
 
+import com.github.sebasman.contracts.diagnostics.IProfiler;
+import com.github.sebasman.contracts.diagnostics.ProfilePhase;
 import com.github.sebasman.contracts.events.EventManager;
 import com.github.sebasman.contracts.events.types.ScoreUpdatedEvent;
 import com.github.sebasman.contracts.model.IGameSession;
 import com.github.sebasman.contracts.view.IGameContext;
+import com.github.sebasman.presenter.diagnostics.PerformanceMonitor;
+import com.github.sebasman.presenter.engine.FrameSnapshot;
+import com.github.sebasman.presenter.engine.GameEngine;
 import com.github.sebasman.presenter.engine.GameLoopTimer;
+import com.github.sebasman.presenter.engine.SimulationThread;
+import com.github.sebasman.presenter.engine.TickOutcome;
 import com.github.sebasman.presenter.listeners.HUDController;
 import com.github.sebasman.presenter.listeners.GameLogicCoordinator;
 import com.github.sebasman.contracts.events.types.FoodEatenEvent;
 import com.github.sebasman.contracts.events.types.SnakeDiedEvent;
 import com.github.sebasman.contracts.presenter.IControlStrategy;
 import com.github.sebasman.contracts.presenter.IState;
-import com.github.sebasman.contracts.model.IFoodAPI;
-import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.model.config.ModelConfig;
 import com.github.sebasman.view.UiManager;
+import com.github.sebasman.view.config.ViewConfig;
+import com.github.sebasman.view.audio.SoundManager;
 import com.github.sebasman.view.render.GameUiStatic;
 import com.github.sebasman.view.render.GameWorldRenderer;
 import com.github.sebasman.view.render.HUDRenderer;
+import com.github.sebasman.view.render.PathRenderer;
+import com.github.sebasman.view.render.PerformanceOverlay;
 import processing.core.PApplet;
 
 import java.util.Objects;
@@ -24,11 +34,32 @@ import java.util.function.Consumer;
 
 /**
  * The playing state of the game, where the player controls the snake and interacts with food.
+ * The ticks run in the render loop, or on a {@link SimulationThread} if the profile asks for it;
+ * in both cases the game events are published on the render thread.
+ * Above the frame rate the game runs in turbo mode: each frame runs a bounded budget of ticks,
+ * draws only the latest state, and coalesces the events of its ticks, so the path, the score
+ * and the sounds are updated at most once per frame.
+ * The window draws only a few frames per tick, and the timer catches up stalls with the
+ * policy of the strategy.
  */
 public final class PlayingState implements IState {
     // The control strategy for handling user input.
     private final IControlStrategy controlStrategy;
     private GameLoopTimer timer;
+    // Whether several ticks run per frame
+    private boolean turbo;
+    // Whether the game was paused since the last update, so the paused time is not caught up
+    private boolean resuming;
+    // Applies the rules of the game on each tick
+    private GameEngine engine;
+    // Runs the ticks apart from the rendering, null when they run in the render loop
+    private SimulationThread simulation;
+    // The event bus of the session being played
+    private EventManager eventBus;
+    // Times the phases of the ticks and of the frames
+    private IProfiler profiler;
+    // Samples the numbers of the performance overlay
+    private PerformanceMonitor monitor;
     private UiManager uiManager;
     // Game messages coordinator
     private GameLogicCoordinator logicCoordinator;
@@ -55,35 +86,108 @@ public final class PlayingState implements IState {
         System.out.println("¡Starting Game!");
         this.hudController = new HUDController(game.getSession().getScore(), game.getProfile().getHighScore());
         this.logicCoordinator = new GameLogicCoordinator(game);
-        this.timer = new GameLoopTimer((int) controlStrategy.getDesiredSpeed());
-        // Listeners are subscribed to the global EventManager.
-        EventManager eventManager = EventManager.getInstance();
-        eventManager.subscribe(FoodEatenEvent.class, onFoodEatenListener);
-        eventManager.subscribe(SnakeDiedEvent.class, onSnakeDiedListener);
-        eventManager.subscribe(ScoreUpdatedEvent.class, onScoreUpdateListener);
+        int ticksPerSecond = (int) controlStrategy.getDesiredSpeed();
+        this.timer = new GameLoopTimer(ticksPerSecond);
+        this.timer.setCatchUpPolicy(controlStrategy.getCatchUpPolicy());
+        this.turbo = ticksPerSecond > ViewConfig.FRAME_RATE;
+        if(this.turbo){
+            this.timer.setTurbo(true, ModelConfig.TURBO_MAX_TICKS_PER_FRAME, ModelConfig.TURBO_MAX_FRAME_NANOS);
+        }
+        this.profiler = game.getProfiler();
+        this.engine = new GameEngine(game.getSession(), this.controlStrategy, this.profiler);
+        this.monitor = new PerformanceMonitor(this.profiler);
+        // Listeners are subscribed to the event bus of the session.
+        this.eventBus = game.getSession().getEventBus();
+        this.eventBus.subscribe(FoodEatenEvent.class, onFoodEatenListener);
+        this.eventBus.subscribe(SnakeDiedEvent.class, onSnakeDiedListener);
+        this.eventBus.subscribe(ScoreUpdatedEvent.class, onScoreUpdateListener);
+        SoundManager.attachTo(this.eventBus);
+        PathRenderer.getInstance().attachTo(this.eventBus);
         this.uiManager = buildUi(game);
+        if(game.getProfile().isSimulationThreaded()){
+            this.simulation = new SimulationThread(this.engine, ticksPerSecond);
+            this.simulation.setCatchUpPolicy(controlStrategy.getCatchUpPolicy());
+            if(this.turbo){
+                this.simulation.setTurbo(ModelConfig.TURBO_MAX_TICKS_PER_FRAME, ModelConfig.TURBO_MAX_FRAME_NANOS);
+            }
+            this.simulation.start();
+            this.monitor.setTickThread(this.simulation.getThread());
+        } else {
+            // The events of the ticks of a frame are held and dispatched together at its end.
+            // Only in the render loop: with a simulation thread, the strategy publishes on another thread.
+            this.eventBus.setCoalescing(this.turbo);
+        }
+        game.getRenderer().frameRate(frameRateFor(ticksPerSecond));
     }
 
     @Override
     public void onExit(IGameContext game) {
+        // The simulation is stopped first, so no tick runs while the listeners are removed.
+        if(this.simulation != null){
+            this.simulation.stop();
+            this.simulation = null;
+        }
+        // The threads of the strategy are stopped with the game.
+        this.controlStrategy.release();
+        // The profiler is left as it was before the overlay was shown.
+        this.monitor.setVisible(false);
+        // The events still held are dispatched before the listeners are removed.
+        this.eventBus.setCoalescing(false);
         // Listeners are unsubscribed to avoid “zombie listeners” and memory leaks.
-        EventManager eventManager = EventManager.getInstance();
-        eventManager.unsubscribe(FoodEatenEvent.class, onFoodEatenListener);
-        eventManager.unsubscribe(SnakeDiedEvent.class, onSnakeDiedListener);
-        eventManager.unsubscribe(ScoreUpdatedEvent.class, onScoreUpdateListener);
+        this.eventBus.unsubscribe(FoodEatenEvent.class, onFoodEatenListener);
+        this.eventBus.unsubscribe(SnakeDiedEvent.class, onSnakeDiedListener);
+        this.eventBus.unsubscribe(ScoreUpdatedEvent.class, onScoreUpdateListener);
+        SoundManager.detachFrom(this.eventBus);
+        PathRenderer.getInstance().detachFrom(this.eventBus);
+        // The other screens are drawn at the full rate again.
+        game.getRenderer().frameRate(ViewConfig.FRAME_RATE);
     }
 
     @Override
     public void update(IGameContext game) {
-        this.timer.update();
-        // As long as there are pending ticks, we execute the game logic.
-        while(timer.shouldTick()){
-            IGameSession session = game.getSession();
-            this.controlStrategy.update(game, session.getSnake());
-            // Update the snake's position based on the current direction.
-            session.getSnake().update();
-            this.checkCollisions(game);
+        this.monitor.setVisible(PerformanceOverlay.getInstance().isVisible());
+        if(this.simulation != null){
+            // Back from a pause, if it was paused.
+            this.simulation.resume();
+            // The outcomes of the ticks run since the last frame are published here, on the render thread.
+            TickOutcome outcome;
+            // In turbo, the meals of the frame are published once, as the latest one.
+            TickOutcome meal = null;
+            while((outcome = this.simulation.pollOutcome()) != null){
+                if(this.turbo && outcome.isFoodEaten()){
+                    meal = outcome;
+                    continue;
+                }
+                if(meal != null && outcome.isDeath()){
+                    this.publishOutcome(meal);
+                    meal = null;
+                }
+                if(this.publishOutcome(outcome)) break; // The game is over.
+            }
+            if(meal != null) this.publishOutcome(meal);
+        } else {
+            if(this.resuming){
+                this.timer.reset();
+                this.resuming = false;
+            }
+            this.timer.update();
+            long allocated = this.monitor.beginTicks();
+            // As long as there are pending ticks, we execute the game logic.
+            while(timer.shouldTick()){
+                TickOutcome outcome = this.engine.tick();
+                if(this.publishOutcome(outcome)) break; // The game is over, the remaining ticks are discarded.
+            }
+            this.monitor.endTicks(allocated);
+            // In turbo, the events of this frame are dispatched now, the latest one of each type.
+            if(this.turbo){
+                long start = this.profiler.start();
+                this.eventBus.flush();
+                this.profiler.stop(ProfilePhase.EVENT_DISPATCH, start);
+            }
         }
+        long lostNanos = this.simulation != null ? this.simulation.getLostNanos() : this.timer.getLostNanos();
+        long ticks = this.simulation != null ? this.simulation.acquireFrame().getTick() : this.engine.getTicks();
+        this.monitor.onFrame(ticks, this.eventBus.getDispatchCount(), lostNanos);
         // Delegates the update of the UI (cursor, hover effects) to the UiManager.
         if (uiManager != null) {
             this.uiManager.update(game.getRenderer());
@@ -92,11 +196,32 @@ public final class PlayingState implements IState {
 
     @Override
     public void draw(IGameContext game) {
+        this.drawScene(game);
+        PerformanceOverlay.getInstance().render(game.getRenderer(), this.monitor);
+    }
+
+    /**
+     * Draws the game and its UI, without the performance overlay.
+     * @param game The game context.
+     */
+    private void drawScene(IGameContext game) {
         PApplet renderer = game.getRenderer();
+        long start = this.profiler.start();
         GameUiStatic.getInstance().render(renderer);
-        float interpolation = this.timer.getInterpolation();
-        GameWorldRenderer.getInstance().render(game, interpolation);
+        this.profiler.stop(ProfilePhase.UI_STATIC, start);
+        if(this.simulation != null){
+            // The live model belongs to the simulation thread: the latest frame it published is drawn.
+            FrameSnapshot frame = this.simulation.acquireFrame();
+            float interpolation = this.turbo ? 1f : this.simulation.getInterpolation(frame, System.nanoTime());
+            GameWorldRenderer.getInstance().render(renderer, this.engine.getSession().getGridSpec(),
+                    frame, frame.getFood(), interpolation, this.profiler);
+        } else {
+            float interpolation = this.timer.getInterpolation();
+            GameWorldRenderer.getInstance().render(game, interpolation);
+        }
+        start = this.profiler.start();
         HUDRenderer.getInstance().render(renderer, this.hudController);
+        this.profiler.stop(ProfilePhase.HUD, start);
         // Draw the UI components of this state
         if (uiManager != null) {
             this.uiManager.draw(renderer);
@@ -106,7 +231,15 @@ public final class PlayingState implements IState {
     @Override
     public void keyPressed(IGameContext game, int keyCode) {
         PApplet renderer = game.getRenderer();
+        if (keyCode == ViewConfig.PERFORMANCE_OVERLAY_KEY) {
+            PerformanceOverlay.getInstance().toggle();
+            return;
+        }
         if (Character.toLowerCase(renderer.key) == 'p' || renderer.key == ' ') {
+            if(this.simulation != null) this.simulation.pause();
+            // The pause keeps a picture of the screen: it must not include the overlay, which can be hidden while paused.
+            if(PerformanceOverlay.getInstance().isVisible()) this.drawScene(game);
+            this.resuming = true;
             game.pushState(PausedState.getInstance());
             return;
         }
@@ -122,23 +255,44 @@ public final class PlayingState implements IState {
     }
 
     /**
-     * Checks for collisions between the snake and the walls or itself,
-     * @param game the current game instance
+     * Publishes the events that follow the outcome of a tick, so that
+     * the rest of the application (score, sounds, state changes) can react.
+     * @param outcome The outcome of the tick computed by the engine.
+     * @return true if the snake died and the game is over.
      */
-    private void checkCollisions(IGameContext game) {
-        IGameSession session = game.getSession();
-        if(session == null) return;
-        ISnakeAPI snake = session.getSnake();
-        IFoodAPI food = session.getFood();
-
-        if (snake.checkCollisionWithWall() || snake.checkCollisionWithSelf()) {
-            EventManager.getInstance().notify(new SnakeDiedEvent());
-            return;
+    private boolean publishOutcome(TickOutcome outcome) {
+        IGameSession session = this.engine.getSession();
+        if (outcome.isDeath()) {
+            long start = this.profiler.start();
+            this.eventBus.notify(new SnakeDiedEvent());
+            this.profiler.stop(ProfilePhase.EVENT_DISPATCH, start);
+            return true;
         }
-
-        if (snake.getHead().equals(food.getPosition())) {
-            EventManager.getInstance().notify(new FoodEatenEvent(food, snake));
+        if (outcome.isFoodEaten()) {
+            long start = this.profiler.start();
+            FoodEatenEvent event;
+            if(this.simulation != null){
+                // The live model belongs to the simulation thread: the values are taken from its
+                // latest frame, which was published before the outcome was queued.
+                FrameSnapshot frame = this.simulation.acquireFrame();
+                event = new FoodEatenEvent(frame.getScore(), frame.getLength());
+            } else {
+                event = new FoodEatenEvent(session.getScore(), session.getSnake().getLength());
+            }
+            this.eventBus.notify(event);
+            this.profiler.stop(ProfilePhase.EVENT_DISPATCH, start);
         }
+        return false;
+    }
+
+    /**
+     * Selects the frame rate of the window for a tick rate. A few frames per tick are enough
+     * to interpolate the movement smoothly, so slow games do not burn CPU drawing at the full rate.
+     * @param ticksPerSecond The tick rate of the game.
+     * @return The frames per second, between MIN_FRAME_RATE and FRAME_RATE.
+     */
+    private static int frameRateFor(int ticksPerSecond) {
+        return Math.clamp((long) ticksPerSecond * ViewConfig.FRAMES_PER_TICK, ViewConfig.MIN_FRAME_RATE, ViewConfig.FRAME_RATE);
     }
 
     private UiManager buildUi(IGameContext game) {
@@ -1,6 +1,9 @@
 package com.github.sebasman.presenter.states;
 
+import com.github.sebasman.contracts.configuration.CheckBoxConfigParameter;
 import com.github.sebasman.contracts.configuration.IConfigParameter;
+import com.github.sebasman.contracts.events.EventManager;
+import com.github.sebasman.contracts.events.types.ConfigurationChangedEvent;
 import com.github.sebasman.contracts.presenter.IHUDController;
 import com.github.sebasman.contracts.view.IGameContext;
 import com.github.sebasman.contracts.presenter.IUiProvider;
@@ -22,19 +25,25 @@ import com.github.sebasman.view.render.HUDRenderer;
 import processing.core.PApplet;
 import processing.core.PConstants;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * PreparingState is a game state that represents the preparation phase before the game starts.
  */
 public final class PreparingState implements IState {
+    // Key of the setting that runs the game on the simulation thread, offered for every strategy
+    private static final String SIMULATION_THREAD = "SIMULATION_THREAD";
     // The strategy used for controlling the snake in this state.
     private final IControlStrategy strategy;
     // The UI manager for handling user interface elements.
     private final UiManager uiManager;
     // Game messages coordinator
     private IHUDController hudController;
+    // Listener of the settings that belong to the game rather than to the strategy
+    private Consumer<ConfigurationChangedEvent> settingsListener;
 
     /**
      * Constructor for PreparingState.
@@ -57,10 +66,15 @@ public final class PreparingState implements IState {
         if(this.strategy instanceof IUiProvider){
             ((IUiProvider) this.strategy).subscribeToEvents();
         }
+        this.settingsListener = event -> {
+            if(SIMULATION_THREAD.equals(event.key())) game.getProfile().setSimulationThreaded((Boolean) event.value());
+        };
+        EventManager.getInstance().subscribe(ConfigurationChangedEvent.class, this.settingsListener);
     }
 
     @Override
     public void onExit(IGameContext game) {
+        EventManager.getInstance().unsubscribe(ConfigurationChangedEvent.class, this.settingsListener);
         if(this.strategy instanceof IUiProvider){
             ((IUiProvider) this.strategy).unsubscribeFromEvents();
         }
@@ -107,20 +121,20 @@ public final class PreparingState implements IState {
      */
     private void buildUi(IGameContext game) {
         PApplet renderer = game.getRenderer();
-        List<IConfigParameter> parameters = List.of();
+        List<IConfigParameter> parameters = new ArrayList<>();
         if(this.strategy instanceof IUiProvider){
-            parameters = ((IUiProvider)this.strategy).getConfigurationParameters();
+            parameters.addAll(((IUiProvider)this.strategy).getConfigurationParameters());
         }
-        if(!parameters.isEmpty()){
-            ComponentFactory factory = new ComponentFactory();
-            ILayout sidePanel = new VerticalLayout(renderer.width - ViewConfig.SIDE_PANEL_WIDTH,
-                    ViewConfig.GAME_AREA_PADDING*2);
-            for(IConfigParameter param : parameters){
-                IUiComponent component = param.accept(factory);
-                sidePanel.add(component);
-            }
-            this.uiManager.addLayout(sidePanel);
+        parameters.add(new CheckBoxConfigParameter(SIMULATION_THREAD, "Simulation Thread",
+                game.getProfile().isSimulationThreaded()));
+        ComponentFactory factory = new ComponentFactory();
+        ILayout sidePanel = new VerticalLayout(renderer.width - ViewConfig.SIDE_PANEL_WIDTH,
+                ViewConfig.GAME_AREA_PADDING*2);
+        for(IConfigParameter param : parameters){
+            IUiComponent component = param.accept(factory);
+            sidePanel.add(component);
         }
+        this.uiManager.addLayout(sidePanel);
 
         ILayout centerLayout = new VerticalLayout(renderer.width - ViewConfig.SIDE_PANEL_WIDTH,
                 renderer.height-ViewConfig.GAME_AREA_PADDING*2-ViewConfig.BUTTON_HEIGHT);
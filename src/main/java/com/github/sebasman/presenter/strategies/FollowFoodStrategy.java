@@ -6,6 +6,7 @@ import com.github.sebasman.contracts.configuration.SliderConfigParameter;
 import com.github.sebasman.contracts.events.EventManager;
 import com.github.sebasman.contracts.events.types.AiPathUpdatedEvent;
 import com.github.sebasman.contracts.events.types.ConfigurationChangedEvent;
+import com.github.sebasman.contracts.model.IGameSession;
 import com.github.sebasman.contracts.model.ISnakeAPI;
 import com.github.sebasman.contracts.view.IGameContext;
 import com.github.sebasman.contracts.presenter.IUiProvider;
@@ -13,22 +14,40 @@ import com.github.sebasman.contracts.vo.Direction;
 import com.github.sebasman.contracts.vo.Position;
 import com.github.sebasman.contracts.presenter.IControlStrategy;
 import com.github.sebasman.model.config.ModelConfig;
+import com.github.sebasman.presenter.strategies.planning.AsyncPlanner;
+import com.github.sebasman.presenter.strategies.planning.FoodPathPlanner;
+import com.github.sebasman.presenter.strategies.planning.PlannerMetrics;
 
-import java.util.*;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
  * An advanced AI strategy that uses the A* algorithm to find the optimal route
- * to food and prioritizes survival to avoid lock-in.
+ * to food and prioritizes survival to avoid lock-in (see {@link FoodPathPlanner}).
+ * The plan can be computed in the game loop, or on a background thread that starts
+ * as soon as a tick is applied; if that plan is late, a cheap panic move is made instead.
  */
 public final class FollowFoodStrategy implements IControlStrategy, IUiProvider {
+    // Extra time the game loop waits for a background plan before falling back
+    private static final long PLAN_WAIT_NANOS = 2_000_000L;
     // --- Configurable AI Parameters ---
     private float aiSpeed = ModelConfig.STARTING_FRAME_RATE;
+    private boolean turbo = false;
+    private float turboSpeed = ModelConfig.TURBO_MIN_SPEED;
     private boolean showPath = false;
+    private boolean spaceTime = false;
+    private boolean async = false;
     // --- Map of Configuration Handlers ---
     private final Map<String, Consumer<Object>> configHandlers;
     // --- References to listeners ---
     private final Consumer<ConfigurationChangedEvent> configChangeListener;
+    // --- Planners: one for the game loop and one for the background worker ---
+    private final FoodPathPlanner planner;
+    private final AsyncPlanner asyncPlanner;
+    private final PlannerMetrics metrics;
+    // Number of ticks applied so far, used to match the plans with their tick
+    private long tick;
 
     /**
      * Public builder. Each AI game will have its own strategy instance.
@@ -36,9 +55,17 @@ public final class FollowFoodStrategy implements IControlStrategy, IUiProvider {
     public FollowFoodStrategy() {
         this.configHandlers = Map.of(
                 "AI_SPEED", value -> this.setAiSpeed((Float) value),
-                "AI_SHOW_PATH", value -> this.setShowPath((Boolean) value)
+                "AI_SHOW_PATH", value -> this.setShowPath((Boolean) value),
+                "AI_SPACE_TIME", value -> this.setSpaceTime((Boolean) value),
+                "AI_ASYNC", value -> this.setAsync((Boolean) value),
+                "AI_TURBO", value -> this.setTurbo((Boolean) value),
+                "AI_TURBO_SPEED", value -> this.setTurboSpeed((Float) value)
         );
         this.configChangeListener = this::handleConfigurationChange;
+        this.metrics = new PlannerMetrics();
+        this.planner = new FoodPathPlanner();
+        this.asyncPlanner = new AsyncPlanner(this.metrics);
+        this.tick = 0;
     }
 
     /**
@@ -65,212 +92,50 @@ public final class FollowFoodStrategy implements IControlStrategy, IUiProvider {
     }
 
     @Override
-    public void update(IGameContext game, ISnakeAPI snake) {
-        // --- Speed logic ---
-
-        // Environmental Data Collection
-        Position head = snake.getHead();
-        Position tail = snake.getTail();
-        Position foodPos = game.getSession().getFood().getPosition();
-        Set<Position> bodyObstacles = snake.getBodySet();
-        Direction currentDirection = snake.getDirection();
-
-        // --- Calculation of Potential Pathways ---
-
-        // Plan A: Find your way to the food.
-        List<Position> pathToFood = this.findPath(head, foodPos, bodyObstacles, currentDirection);
-        // Plan B: Find your way to the tail to survive.
-        Set<Position> obstaclesForTailPath = new HashSet<>(bodyObstacles);
-        obstaclesForTailPath.remove(tail);
-        List<Position> pathToTail = this.findPath(head, tail, obstaclesForTailPath, currentDirection);
-
-        // --- Intelligent and Hierarchical Decision Logic ---
-
-        Direction chosenDirection = null;
-
-        // Priority 1: If there is a path to food, and it is safe, it is the best option.
-        if(this.isPathValid(pathToFood) && this.isPathSafe(snake, pathToFood)){
-            chosenDirection = getDirectionFromPath(head, pathToFood);
-            // Notify the route for display if enabled
-            if(showPath){ EventManager.getInstance().notify(new AiPathUpdatedEvent(pathToFood)); }
-        } else{
-            // Priority 2: If the path to food is "unsafe", but we have NO other choice (no path to the queue),
-            // we take the risk. It's better than standing still.
-            if(this.isPathValid(pathToTail)){
-                chosenDirection = getDirectionFromPath(head, pathToTail);
-                if(showPath){ EventManager.getInstance().notify(new AiPathUpdatedEvent(pathToTail)); }
+    public void update(IGameSession session, ISnakeAPI snake) {
+        Position foodPos = session.getFood().getPosition();
+        Direction chosenDirection;
+        List<Position> path;
+        if(this.async){
+            // The first tick, or a tick after switching modes, has no plan requested yet.
+            if(!this.asyncPlanner.isRequested(this.tick)){
+                this.asyncPlanner.request(snake, foodPos, this.spaceTime, this.tick);
             }
+            AsyncPlanner.Plan plan = this.asyncPlanner.await(this.tick, PLAN_WAIT_NANOS);
+            if(plan != null){
+                chosenDirection = plan.direction();
+                path = plan.path();
+            } else {
+                // The plan is late: a cheap move keeps the snake safe for this tick.
+                this.metrics.recordFallback();
+                chosenDirection = this.planner.findPanicMove(snake);
+                path = null;
+            }
+        } else {
+            long start = System.nanoTime();
+            this.planner.setSpaceTime(this.spaceTime);
+            chosenDirection = this.planner.plan(snake, foodPos);
+            this.metrics.recordPlan(System.nanoTime() - start);
+            path = this.planner.getLastPath();
         }
-        // Priority 3 (Last Resort): If none of the previous plans worked,
-        // means we are trapped or in a very difficult situation. We make a panic move
-        // to the safest adjacent square to avoid standing still.
-        if(chosenDirection == null){
-            chosenDirection = this.findSafestPanicMove(head, bodyObstacles, currentDirection);
-        }
+        // Notify the route for display if enabled
+        if(this.showPath && path != null){ session.getEventBus().notify(new AiPathUpdatedEvent(path)); }
         // Execution of the movement
         snake.bufferDirection(chosenDirection);
     }
 
-    /**
-     * Implementation of the A* algorithm to find the shortest path.
-     * @param start Initial location of the algorithm
-     * @param target Target arrival of the algorithm
-     * @param obstacles Set of obstacles to be avoided by the algorithm
-     * @param initialDirection The current direction of the snake to avoid reversal.
-     * @return A list of positions to be followed by the snake
-     */
-    private List<Position> findPath(Position start, Position target, Set<Position> obstacles, Direction initialDirection) {
-        PriorityQueue<Node> openSet = new PriorityQueue<>();
-        Map<Position, Node> allNodes = new HashMap<>();
-
-        Node startNode = new Node(start, null, 0, this.calculateHeuristic(start, target));
-        openSet.add(startNode);
-        allNodes.put(start, startNode);
-        while(!openSet.isEmpty()){
-            Node current = openSet.poll();
-            // Already arrived at its destination
-            if(current.position().equals(target)){
-                return this.reconstructPath(current);
-            }
-            // Verify each position direction
-            for(Direction direction : Direction.values()){
-                if(current.parent() != null){
-                    Direction arrivalDirection = getDirectionFromPositions(current.parent().position(), current.position());
-                    if (direction.equals(arrivalDirection.opposite())) {
-                        continue;
-                    }
-                }else {
-                    // Only for the initial node, we respect the current address of the snake.
-                    if (direction.equals(initialDirection.opposite())) {
-                        continue;
-                    }
-                }
-                Position neighborPos = current.position().add(new Position(direction.getDx(), direction.getDy()));
-                if(this.isInvalid(neighborPos, obstacles) && !neighborPos.equals(target)){
-                    continue;
-                }
-                double gCost = current.gCost() + 1;
-                Node neighborNode = allNodes.get(neighborPos);
-                if(neighborNode == null || gCost < neighborNode.gCost()){
-                    if(neighborNode != null){
-                        openSet.remove(neighborNode);
-                    }
-                    neighborNode = new Node(neighborPos, current, gCost, this.calculateHeuristic(neighborPos, target));
-                    openSet.add(neighborNode);
-                    allNodes.put(neighborPos, neighborNode);
-                }
-            }
-        }
-        // No route found
-        return null;
-    }
-
-    /**
-     * Checks if a path is safe by simulating the movement and verifying
-     * if there is still an escape route to the queue.
-     * @param snake A copy of the snake to be moved
-     * @param pathToFood The route to follow and verify
-     * @return True if the route is safe. False otherwise.
-     */
-    private boolean isPathSafe(ISnakeAPI snake, List<Position> pathToFood) {
-        // Creates a virtual copy of the snake's body
-        List<Position> virtualSnakeBody = new LinkedList<>(snake.getBody());
-        // Simulates the movement along the path to the food.
-        for(Position nextMove : pathToFood){
-            virtualSnakeBody.addFirst(nextMove);
-            virtualSnakeBody.removeLast();
-        }
-        // After eating the food in the last position, the snake grows.
-        virtualSnakeBody.addLast(virtualSnakeBody.getLast());
-        // The new head will be in the position of the food.
-        Position futureHead = virtualSnakeBody.getFirst();
-        Position futureTail = virtualSnakeBody.getLast();
-        Set<Position> futureObstacles = new HashSet<>(virtualSnakeBody);
-        futureObstacles.remove(futureHead);
-        futureObstacles.remove(futureTail);
-        // Determine future direction
-        Direction futureDirection = getDirectionFromPositions(snake.getHead(), pathToFood.getFirst());
-        // Checks if from the future position there is a path to the future queue.
-        List<Position> scapePath = findPath(futureHead, futureTail, futureObstacles, futureDirection);
-        return this.isPathValid(scapePath);
-    }
-
-    /**
-     * Finds an escape direction when panicking
-     * @param head Initial position of the snake
-     * @param obstacles Obstacles to avoid
-     * @param currentDirection The current direction of the movement
-     * @return A direction in which the snake can escape
-     */
-    private Direction findSafestPanicMove(Position head, Set<Position> obstacles, Direction currentDirection){
-        for(Direction dir: Direction.values()){
-            if(dir.equals(currentDirection.opposite())) continue;
-            Position nextPos = head.add(new Position(dir.getDx(), dir.getDy()));
-            if(this.isInvalid(nextPos, obstacles)){
-                return dir; // Choose the first safe direction, prioritizing going straight ahead.
-            }
-        }
-        // If even the three main options are blocked, choose the opposite direction as a last resort.
-        return currentDirection.opposite();
-    }
-
-    private boolean isInvalid(Position pos, Set<Position> obstacles) {
-        return pos.x() < 0 || pos.x() >= ModelConfig.GRID_WIDTH ||
-                pos.y() < 0 || pos.y() >= ModelConfig.GRID_HEIGHT ||
-                obstacles.contains(pos);
-    }
-
-    /**
-     * Manhattan distance heuristics.
-     * @param a Position 1 to be calculated.
-     * @param b Position 2 to be calculated.
-     * @return The sum of both distances.
-     */
-    private double calculateHeuristic(Position a, Position b) {
-        return Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y());
-    }
-
-    /**
-     * reconstructs the algorithm's path by collecting the “breadcrumbs”
-     * left by the algorithm at each node.
-     * @param targetNode The destination node.
-     * @return A list of Positions representing the route to take.
-     */
-    private List<Position> reconstructPath(Node targetNode) {
-        LinkedList<Position> path = new LinkedList<>();
-        Node current = targetNode;
-        while(current.parent() != null){
-            path.addFirst(current.position());
-            current = current.parent();
+    @Override
+    public void onTickApplied(IGameSession session, ISnakeAPI snake) {
+        this.tick++;
+        // The model will not change until the next update, so the worker can start right away.
+        if(this.async){
+            this.asyncPlanner.request(snake, session.getFood().getPosition(), this.spaceTime, this.tick);
         }
-        return path;
-    }
-
-    /**
-     * Gets the next direction the snake will follow.
-     * @param head The position of the snake's current head.
-     * @param path The route the snake should follow
-     * @return The next direction of the snake
-     */
-    private Direction getDirectionFromPath(Position head, List<Position> path) {
-        return this.getDirectionFromPositions(head, path.getFirst());
-    }
-
-    /**
-     * Utility method to determine the direction between two adjacent positions.
-     * @param from The source position.
-     * @param to The destination position.
-     * @return The direction of movement.
-     */
-    private Direction getDirectionFromPositions(Position from, Position to) {
-        if (to.x() > from.x()) return Direction.RIGHT;
-        if (to.x() < from.x()) return Direction.LEFT;
-        if (to.y() > from.y()) return Direction.DOWN;
-        return Direction.UP;
     }
 
-    private boolean isPathValid(List<Position> path){
-        return path != null && !path.isEmpty();
+    @Override
+    public void release() {
+        this.asyncPlanner.shutdown();
     }
 
     @Override
@@ -282,7 +147,11 @@ public final class FollowFoodStrategy implements IControlStrategy, IUiProvider {
     public List<IConfigParameter> getConfigurationParameters() {
         return List.of(
             new SliderConfigParameter("AI_SPEED", "Speed Snake", ModelConfig.STARTING_FRAME_RATE/2f, ModelConfig.STARTING_FRAME_RATE*2, this.aiSpeed),
-            new CheckBoxConfigParameter("AI_SHOW_PATH", "Show Path", this.showPath)
+            new CheckBoxConfigParameter("AI_TURBO", "Turbo", this.turbo),
+            new SliderConfigParameter("AI_TURBO_SPEED", "Turbo Speed", ModelConfig.TURBO_MIN_SPEED, ModelConfig.TURBO_MAX_SPEED, this.turboSpeed),
+            new CheckBoxConfigParameter("AI_SHOW_PATH", "Show Path", this.showPath),
+            new CheckBoxConfigParameter("AI_SPACE_TIME", "Space-Time Planner", this.spaceTime),
+            new CheckBoxConfigParameter("AI_ASYNC", "Plan in Background", this.async)
         );
     }
 
@@ -294,7 +163,7 @@ public final class FollowFoodStrategy implements IControlStrategy, IUiProvider {
 
     @Override
     public float getDesiredSpeed() {
-        return this.aiSpeed;
+        return this.turbo ? this.turboSpeed : this.aiSpeed;
     }
 
     // --- Setters ---
@@ -307,6 +176,22 @@ public final class FollowFoodStrategy implements IControlStrategy, IUiProvider {
         this.aiSpeed = aiSpeed;
     }
 
+    /**
+     * Enables the turbo speed of the snake, far above the frame rate
+     * @param turbo true to play at the turbo speed, false at the normal speed
+     */
+    public void setTurbo(boolean turbo) {
+        this.turbo = turbo;
+    }
+
+    /**
+     * Change the speed snake in turbo mode
+     * @param turboSpeed the new value for the ticks per second
+     */
+    public void setTurboSpeed(float turboSpeed) {
+        this.turboSpeed = turboSpeed;
+    }
+
     /**
      * Change the show path of the snake
      * @param showPath true or false
@@ -314,4 +199,38 @@ public final class FollowFoodStrategy implements IControlStrategy, IUiProvider {
     public void setShowPath(boolean showPath) {
         this.showPath = showPath;
     }
+
+    /**
+     * Selects the planner of the snake
+     * @param spaceTime true to plan with the body retracting over time, false for static obstacles
+     */
+    public void setSpaceTime(boolean spaceTime) {
+        this.spaceTime = spaceTime;
+    }
+
+    /**
+     * Selects where the snake plans its moves
+     * @param async true to plan on a background thread with a deadline, false to plan in the game loop
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Forgets the route cached by the planner of the game loop, so the next decision is planned
+     * from scratch, e.g. to measure the cost of a full plan.
+     */
+    public void invalidatePlan() {
+        this.planner.invalidateCache();
+    }
+
+    // --- Getters ---
+
+    /**
+     * Returns the counters of the planner: latency, deadline misses and fallback moves.
+     * @return The metrics of this strategy.
+     */
+    public PlannerMetrics getPlannerMetrics() {
+        return this.metrics;
+    }
 }
@@ -0,0 +1,363 @@
+package com.github.sebasman.presenter.strategies;
+
+import com.github.sebasman.contracts.configuration.CheckBoxConfigParameter;
+import com.github.sebasman.contracts.configuration.IConfigParameter;
+import com.github.sebasman.contracts.configuration.SliderConfigParameter;
+import com.github.sebasman.contracts.events.EventManager;
+import com.github.sebasman.contracts.events.types.ConfigurationChangedEvent;
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.presenter.IControlStrategy;
+import com.github.sebasman.contracts.presenter.IUiProvider;
+import com.github.sebasman.contracts.view.IGameContext;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.GridSpec;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.model.config.ModelConfig;
+import com.github.sebasman.presenter.strategies.pathfinding.HamiltonianCycle;
+import com.github.sebasman.presenter.strategies.planning.FoodPathPlanner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An AI strategy that never dies: it follows a Hamiltonian cycle of the board,
+ * so the body always stays behind the head along the cycle.
+ * The cycle is followed in the direction the snake starts in; until the whole body lies
+ * on the cycle in order, the head just walks along it, and no shortcut is taken.
+ * To reach the food sooner it jumps ahead along the cycle to an adjacent cell whenever
+ * the jump lands in the free part of the cycle, does not pass the food, and leaves enough
+ * free cells before the tail. The cells skipped by a shortcut stay free behind the head
+ * until the tail passes them, so shortcuts stop once the body fills half of the board,
+ * leaving every free cell ahead of the head by the time the growth needs them.
+ * Each decision checks at most four neighbors, so its cost does not depend on the size of the board.
+ * A board with both dimensions odd has no such cycle: there, the moves are planned
+ * as in {@link FollowFoodStrategy}, which may die.
+ */
+public final class HamiltonianStrategy implements IControlStrategy, IUiProvider {
+    // Cached copy of the directions, since Direction.values() allocates a new array on each call
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // Free cells to keep between the new head and the tail when taking a shortcut, besides the growth
+    private static final int SHORTCUT_MARGIN = 2;
+    // Shortcuts are only taken while the body fills less than this fraction of the board
+    private static final double SHORTCUT_MAX_FILL = 0.5;
+    // --- Configurable AI Parameters ---
+    private float aiSpeed = ModelConfig.STARTING_FRAME_RATE;
+    private boolean turbo = false;
+    private float turboSpeed = ModelConfig.TURBO_MIN_SPEED;
+    private boolean useShortcuts = true;
+    // --- Map of Configuration Handlers ---
+    private final Map<String, Consumer<Object>> configHandlers;
+    // --- References to listeners ---
+    private final Consumer<ConfigurationChangedEvent> configChangeListener;
+    // --- Cycle of the board of the snake, null if the board has none ---
+    private HamiltonianCycle cycle;
+    private int cycleWidth;
+    private int cycleHeight;
+    // Whether the cycle is followed backwards, and whether the body already lies on it in order
+    private boolean reversed;
+    private boolean aligned;
+    // Planner used on boards without a cycle, created on demand
+    private FoodPathPlanner fallbackPlanner;
+
+    /**
+     * Public builder. Each AI game will have its own strategy instance.
+     */
+    public HamiltonianStrategy() {
+        this.configHandlers = Map.of(
+                "AI_SPEED", value -> this.setAiSpeed((Float) value),
+                "AI_SHORTCUTS", value -> this.setUseShortcuts((Boolean) value),
+                "AI_TURBO", value -> this.setTurbo((Boolean) value),
+                "AI_TURBO_SPEED", value -> this.setTurboSpeed((Float) value)
+        );
+        this.configChangeListener = this::handleConfigurationChange;
+    }
+
+    /**
+     * The central configuration event handler.
+     * Searches for the event key in the handler map and executes the corresponding action.
+     * @param event The configuration change event published by a UI component.
+     */
+    private void handleConfigurationChange(ConfigurationChangedEvent event){
+        Consumer<Object> handler = configHandlers.get(event.key());
+        if(handler != null){
+            handler.accept(event.value());
+        }
+    }
+
+    @Override
+    public void subscribeToEvents(){
+        EventManager.getInstance().subscribe(ConfigurationChangedEvent.class, configChangeListener);
+    }
+
+    @Override
+    public void unsubscribeFromEvents(){
+        EventManager.getInstance().unsubscribe(ConfigurationChangedEvent.class, configChangeListener);
+    }
+
+    /**
+     * Checks if the strategy can play on a board without falling back to path planning.
+     * @param gridSpec The dimensions of the board.
+     * @return true if the board has a Hamiltonian cycle.
+     */
+    public static boolean supports(GridSpec gridSpec) {
+        return HamiltonianCycle.exists(gridSpec.width(), gridSpec.height());
+    }
+
+    @Override
+    public void update(IGameSession session, ISnakeAPI snake) {
+        IOccupancyGrid board = snake.getOccupancy();
+        this.ensureCycle(board);
+        if(this.cycle == null){
+            snake.bufferDirection(this.planWithoutCycle(session, snake));
+            return;
+        }
+        int head = snake.getSegmentCell(0);
+        int tail = snake.getSegmentCell(snake.getLength() - 1);
+        if(head < 0 || tail < 0) return; // The snake is already out of the board.
+        if(!this.aligned){
+            this.aligned = this.checkAlignment(snake);
+            if(!this.aligned){
+                snake.bufferDirection(this.approachCycle(snake, board, head));
+                return;
+            }
+        }
+        // Base move: the next cell of the cycle, always safe.
+        int next = this.successor(head);
+        Position food = session.getFood().getPosition();
+        if(this.useShortcuts && food != null && snake.getLength() < this.cycle.size() * SHORTCUT_MAX_FILL){
+            next = this.findShortcut(snake, board, head, tail, food.y() * board.getWidth() + food.x(), next);
+        }
+        snake.bufferDirection(this.getDirectionBetween(head, next, board.getWidth()));
+    }
+
+    /**
+     * Checks if the whole body lies on the cycle between the tail and the head, in order,
+     * in either direction, and keeps the direction in which it does.
+     * @param snake The snake to check.
+     * @return true if the cycle can be followed from now on.
+     */
+    private boolean checkAlignment(ISnakeAPI snake) {
+        if(this.isInCycleOrder(snake)) return true;
+        this.reversed = !this.reversed;
+        if(this.isInCycleOrder(snake)) return true;
+        this.reversed = !this.reversed;
+        return false;
+    }
+
+    /**
+     * Checks if each segment of the body comes after the previous one along the cycle,
+     * without going around it, in the current direction.
+     * @param snake The snake to check.
+     * @return true if the body lies on the cycle between the tail and the head.
+     */
+    private boolean isInCycleOrder(ISnakeAPI snake) {
+        int length = snake.getLength();
+        int head = snake.getSegmentCell(0);
+        int tail = snake.getSegmentCell(length - 1);
+        long steps = 0;
+        for(int i = length - 1; i > 0; i--){
+            int from = snake.getSegmentCell(i);
+            int to = snake.getSegmentCell(i - 1);
+            if(from < 0 || to < 0) return false;
+            int step = this.cycleDistance(from, to);
+            if(step == 0) return false;
+            steps += step;
+        }
+        // Going around the cycle would add its size to the steps.
+        return steps == this.cycleDistance(tail, head);
+    }
+
+    /**
+     * Moves the head along the cycle until the body follows it in order, which takes
+     * as many ticks as segments the snake has. If the next cell of the cycle is taken,
+     * the cycle is followed the other way, and if both are taken, the roomiest cell is chosen.
+     * @param snake The snake to move.
+     * @param board The occupancy grid of the board.
+     * @param head The cell of the head.
+     * @return The direction to move.
+     */
+    private Direction approachCycle(ISnakeAPI snake, IOccupancyGrid board, int head) {
+        for(int attempt = 0; attempt < 2; attempt++){
+            int next = this.successor(head);
+            if(!board.isOccupied(next)) return this.getDirectionBetween(head, next, board.getWidth());
+            this.reversed = !this.reversed;
+        }
+        return this.getFallbackPlanner().findPanicMove(snake);
+    }
+
+    /**
+     * Decides a move on a board without a cycle, planning a safe route to the food.
+     * @param session The game session, to know where the food is.
+     * @param snake The snake to move.
+     * @return The direction to move.
+     */
+    private Direction planWithoutCycle(IGameSession session, ISnakeAPI snake) {
+        Position food = session.getFood().getPosition();
+        FoodPathPlanner planner = this.getFallbackPlanner();
+        return food != null ? planner.plan(snake, food) : planner.findPanicMove(snake);
+    }
+
+    /**
+     * Returns the planner used when the cycle cannot be followed, creating it on first use.
+     * @return The fallback planner.
+     */
+    private FoodPathPlanner getFallbackPlanner() {
+        if(this.fallbackPlanner == null){
+            this.fallbackPlanner = new FoodPathPlanner();
+        }
+        return this.fallbackPlanner;
+    }
+
+    /**
+     * Returns the cell after another one, in the direction the cycle is followed.
+     * @param cell The cell index.
+     * @return The next cell index.
+     */
+    private int successor(int cell) {
+        return this.reversed ? this.cycle.previous(cell) : this.cycle.next(cell);
+    }
+
+    /**
+     * Returns the number of steps from one cell to another, in the direction the cycle is followed.
+     * @param from The source cell.
+     * @param to The destination cell.
+     * @return A distance between 0 and size - 1.
+     */
+    private int cycleDistance(int from, int to) {
+        return this.reversed ? this.cycle.distance(to, from) : this.cycle.distance(from, to);
+    }
+
+    /**
+     * Looks for the adjacent cell that advances the most along the cycle without breaking
+     * the invariant that keeps the snake alive: the whole body lies on the cycle between
+     * the tail and the head, so every cell ahead of the head and before the tail is free.
+     * @param snake The snake to move.
+     * @param board The occupancy grid of the board.
+     * @param head The cell of the head.
+     * @param tail The cell of the tail.
+     * @param food The cell of the food.
+     * @param next The next cell of the cycle, used when no shortcut is acceptable.
+     * @return The cell to move to.
+     */
+    private int findShortcut(ISnakeAPI snake, IOccupancyGrid board, int head, int tail, int food, int next) {
+        int distanceToTail = this.cycleDistance(head, tail);
+        int distanceToFood = this.cycleDistance(head, food);
+        int growth = snake.isGrowing() ? 1 : 0;
+        int best = next;
+        int bestDistance = 1;
+        int x = head % board.getWidth();
+        int y = head / board.getWidth();
+        for(Direction direction : DIRECTIONS){
+            int nx = x + direction.getDx();
+            int ny = y + direction.getDy();
+            if(!board.isInside(nx, ny)) continue;
+            int neighbor = ny * board.getWidth() + nx;
+            if(board.isOccupied(neighbor)) continue;
+            int distance = this.cycleDistance(head, neighbor);
+            // It must advance more than the best option, but never past the food.
+            if(distance <= bestDistance || distance > distanceToFood) continue;
+            // Free cells that would remain between the new head and the tail
+            int freeAhead = distanceToTail - distance - 1;
+            int needed = SHORTCUT_MARGIN + growth + (neighbor == food ? 1 : 0);
+            if(freeAhead < needed) continue;
+            best = neighbor;
+            bestDistance = distance;
+        }
+        return best;
+    }
+
+    /**
+     * Gets the cycle of the board, building it when the board dimensions change.
+     * The cycle is left null if the board has none, so that no tick ever fails.
+     * @param board The occupancy grid of the current board.
+     */
+    private void ensureCycle(IOccupancyGrid board) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        if(width == this.cycleWidth && height == this.cycleHeight) return;
+        this.cycleWidth = width;
+        this.cycleHeight = height;
+        this.cycle = HamiltonianCycle.exists(width, height) ? HamiltonianCycle.forGrid(width, height) : null;
+        this.reversed = false;
+        this.aligned = false;
+    }
+
+    /**
+     * Utility method to determine the direction between two adjacent cells.
+     * @param from The source cell.
+     * @param to The destination cell.
+     * @param width The number of columns of the board.
+     * @return The direction of movement.
+     */
+    private Direction getDirectionBetween(int from, int to, int width) {
+        int dx = to % width - from % width;
+        int dy = to / width - from / width;
+        if (dx > 0) return Direction.RIGHT;
+        if (dx < 0) return Direction.LEFT;
+        if (dy > 0) return Direction.DOWN;
+        return Direction.UP;
+    }
+
+    @Override
+    public void keyPressed(IGameContext game, ISnakeAPI snake, int keyCode) {
+        // The AI doesn't respond to the keyboard, so this method is empty.
+    }
+
+    @Override
+    public List<IConfigParameter> getConfigurationParameters() {
+        return List.of(
+            new SliderConfigParameter("AI_SPEED", "Speed Snake", ModelConfig.STARTING_FRAME_RATE/2f, ModelConfig.STARTING_FRAME_RATE*2, this.aiSpeed),
+            new CheckBoxConfigParameter("AI_TURBO", "Turbo", this.turbo),
+            new SliderConfigParameter("AI_TURBO_SPEED", "Turbo Speed", ModelConfig.TURBO_MIN_SPEED, ModelConfig.TURBO_MAX_SPEED, this.turboSpeed),
+            new CheckBoxConfigParameter("AI_SHORTCUTS", "Take Shortcuts", this.useShortcuts)
+        );
+    }
+
+    @Override
+    public boolean isGameStartAction(int keyCode) {
+        // The AI does not start the game with a key, but with a UI button.
+        return false;
+    }
+
+    @Override
+    public float getDesiredSpeed() {
+        return this.turbo ? this.turboSpeed : this.aiSpeed;
+    }
+
+    // --- Setters ---
+
+    /**
+     * Change the speed snake
+     * @param aiSpeed the new value for the speed
+     */
+    public void setAiSpeed(float aiSpeed) {
+        this.aiSpeed = aiSpeed;
+    }
+
+    /**
+     * Enables the turbo speed of the snake, far above the frame rate
+     * @param turbo true to play at the turbo speed, false at the normal speed
+     */
+    public void setTurbo(boolean turbo) {
+        this.turbo = turbo;
+    }
+
+    /**
+     * Change the speed snake in turbo mode
+     * @param turboSpeed the new value for the ticks per second
+     */
+    public void setTurboSpeed(float turboSpeed) {
+        this.turboSpeed = turboSpeed;
+    }
+
+    /**
+     * Enables or disables the shortcuts towards the food
+     * @param useShortcuts true to take safe shortcuts, false to always follow the cycle
+     */
+    public void setUseShortcuts(boolean useShortcuts) {
+        this.useShortcuts = useShortcuts;
+    }
+}
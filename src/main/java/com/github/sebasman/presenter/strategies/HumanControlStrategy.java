@@ -1,7 +1,9 @@
 package com.github.sebasman.presenter.strategies;
 
+import com.github.sebasman.contracts.model.IGameSession;
 import com.github.sebasman.contracts.model.ISnakeAPI;
 import com.github.sebasman.contracts.view.IGameContext;
+import com.github.sebasman.contracts.vo.CatchUpPolicy;
 import com.github.sebasman.contracts.vo.Direction;
 import com.github.sebasman.contracts.presenter.IControlStrategy;
 import com.github.sebasman.model.config.ModelConfig;
@@ -19,7 +21,7 @@ public final class HumanControlStrategy implements IControlStrategy {
     public HumanControlStrategy() {}
 
     @Override
-    public void update(IGameContext game, ISnakeAPI snake) {
+    public void update(IGameSession session, ISnakeAPI snake) {
         // The human control does not need to do anything in the update loop.
         // All logic is reactive to keyboard events.
     }
@@ -47,4 +49,10 @@ public final class HumanControlStrategy implements IControlStrategy {
     public float getDesiredSpeed() {
         return ModelConfig.STARTING_FRAME_RATE;
     }
+
+    @Override
+    public CatchUpPolicy getCatchUpPolicy() {
+        // A burst of ticks after a stall would move the snake before the player can react: the game slows down instead.
+        return CatchUpPolicy.DILATE;
+    }
 }
@@ -0,0 +1,204 @@
+package com.github.sebasman.presenter.strategies;
+
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.presenter.IControlStrategy;
+import com.github.sebasman.contracts.view.IGameContext;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.model.config.ModelConfig;
+import com.github.sebasman.presenter.strategies.pathfinding.FloodFillEvaluator;
+
+import java.util.Objects;
+
+/**
+ * An AI strategy without any search: each possible move is described by a few features
+ * (progress towards the food, room left, whether the tail stays reachable...) and the move
+ * with the highest weighted sum is taken. The weights are its genome, so they can be
+ * evolved by the genetic trainer; a decision costs at most three flood fills.
+ */
+public final class WeightedHeuristicStrategy implements IControlStrategy {
+    // --- Features of a move, in the order of the weights ---
+    /** 1 if the move gets closer to the food, -1 if it moves away. */
+    public static final int FOOD_PROGRESS = 0;
+    /** Free area reachable after the move, relative to the length of the snake. */
+    public static final int ROOM = 1;
+    /** 1 if the tail can still be reached after the move. */
+    public static final int TAIL_REACHABLE = 2;
+    /** Free cells straight ahead after the move, relative to the size of the board. */
+    public static final int CLEARANCE = 3;
+    /** 1 if the move keeps the current direction. */
+    public static final int STRAIGHT = 4;
+    /** Blocked neighbors of the new cell, out of four, to keep the body compact. */
+    public static final int HUGGING = 5;
+    /** 1 if the move eats the food. */
+    public static final int EATS = 6;
+    /** Number of features, which is the length of a genome. */
+    public static final int FEATURE_COUNT = 7;
+    // Hand-tuned weights, used before any training
+    private static final float[] DEFAULT_WEIGHTS = {1f, 2f, 3f, 0.2f, 0.05f, 0.3f, 0.5f};
+    // Cached copy of the directions, since Direction.values() allocates a new array on each call
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final float[] weights;
+    // Reusable buffers, sized for the board of the snake
+    private final float[] features;
+    private FloodFillEvaluator floodFill;
+
+    /**
+     * Builds the strategy with the hand-tuned weights.
+     */
+    public WeightedHeuristicStrategy() {
+        this(DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * Builds the strategy with a genome of weights.
+     * @param weights One weight per feature; the array is copied.
+     */
+    public WeightedHeuristicStrategy(float[] weights) {
+        Objects.requireNonNull(weights, "Weights cannot be null");
+        if(weights.length != FEATURE_COUNT){
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights, got " + weights.length + ".");
+        }
+        this.weights = weights.clone();
+        this.features = new float[FEATURE_COUNT];
+    }
+
+    @Override
+    public void update(IGameSession session, ISnakeAPI snake) {
+        IOccupancyGrid board = snake.getOccupancy();
+        this.ensureBuffers(board);
+        Position head = snake.getHead();
+        Position food = session.getFood().getPosition();
+        Direction current = snake.getDirection();
+        Direction best = null;
+        float bestScore = Float.NEGATIVE_INFINITY;
+        for(Direction direction : DIRECTIONS){
+            if(direction == current.opposite()) continue;
+            if(!this.describeMove(snake, board, head, food, direction)) continue;
+            float score = 0;
+            for(int i = 0; i < FEATURE_COUNT; i++){
+                score += this.weights[i] * this.features[i];
+            }
+            if(score > bestScore){
+                best = direction;
+                bestScore = score;
+            }
+        }
+        // Every move is blocked: keep going and accept the end.
+        snake.bufferDirection(best != null ? best : current);
+    }
+
+    /**
+     * Fills the feature buffer for a move.
+     * @param snake The snake to move.
+     * @param board The occupied cells of the board.
+     * @param head The position of the head.
+     * @param food The position of the food, or null if there is none.
+     * @param direction The move.
+     * @return false if the move is fatal, in which case the features are not filled.
+     */
+    private boolean describeMove(ISnakeAPI snake, IOccupancyGrid board, Position head, Position food, Direction direction) {
+        int width = board.getWidth();
+        int nx = head.x() + direction.getDx();
+        int ny = head.y() + direction.getDy();
+        if(!board.isInside(nx, ny)) return false;
+        int cell = ny * width + nx;
+        // The tail cell is free on the next move, unless the snake is growing.
+        int tailCell = snake.getSegmentCell(snake.getLength() - 1);
+        boolean isMovingTail = cell == tailCell && !snake.isGrowing();
+        if(board.isOccupied(cell) && !isMovingTail) return false;
+
+        // The fill is not bounded: one stopped early may miss the tail even when the move is safe.
+        int roomLimit = 2 * snake.getLength();
+        int area = this.floodFill.fill(cell, board, tailCell, board.getWidth() * board.getHeight());
+        this.features[ROOM] = (float) Math.min(area, roomLimit) / roomLimit;
+        this.features[TAIL_REACHABLE] = this.floodFill.isTailReachable() ? 1f : 0f;
+        if(food != null){
+            int before = Math.abs(head.x() - food.x()) + Math.abs(head.y() - food.y());
+            int after = Math.abs(nx - food.x()) + Math.abs(ny - food.y());
+            this.features[FOOD_PROGRESS] = after < before ? 1f : -1f;
+            this.features[EATS] = after == 0 ? 1f : 0f;
+        } else {
+            this.features[FOOD_PROGRESS] = 0f;
+            this.features[EATS] = 0f;
+        }
+        this.features[CLEARANCE] = (float) this.countClearance(board, nx, ny, direction) / Math.max(width, board.getHeight());
+        this.features[STRAIGHT] = direction == snake.getDirection() ? 1f : 0f;
+        this.features[HUGGING] = this.countBlockedNeighbors(board, nx, ny) / 4f;
+        return true;
+    }
+
+    /**
+     * Counts the free cells in a straight line from a cell.
+     * @param board The occupied cells.
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @param direction The direction of the line.
+     * @return The number of free cells before a wall or the body.
+     */
+    private int countClearance(IOccupancyGrid board, int x, int y, Direction direction) {
+        int count = 0;
+        int cx = x + direction.getDx();
+        int cy = y + direction.getDy();
+        while(board.isInside(cx, cy) && !board.isOccupied(cx, cy)){
+            count++;
+            cx += direction.getDx();
+            cy += direction.getDy();
+        }
+        return count;
+    }
+
+    /**
+     * Counts the neighbors of a cell that are walls or body.
+     * @param board The occupied cells.
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return A value between 0 and 4.
+     */
+    private int countBlockedNeighbors(IOccupancyGrid board, int x, int y) {
+        int count = 0;
+        for(Direction direction : DIRECTIONS){
+            int nx = x + direction.getDx();
+            int ny = y + direction.getDy();
+            if(!board.isInside(nx, ny) || board.isOccupied(nx, ny)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * (Re)creates the flood fill when the board dimensions change.
+     * @param board The occupancy grid of the current board.
+     */
+    private void ensureBuffers(IOccupancyGrid board) {
+        if(this.floodFill == null || this.floodFill.getWidth() != board.getWidth() || this.floodFill.getHeight() != board.getHeight()){
+            this.floodFill = new FloodFillEvaluator(board.getWidth(), board.getHeight());
+        }
+    }
+
+    @Override
+    public void keyPressed(IGameContext game, ISnakeAPI snake, int keyCode) {
+        // The AI doesn't respond to the keyboard, so this method is empty.
+    }
+
+    @Override
+    public boolean isGameStartAction(int keyCode) {
+        // The AI does not start the game with a key, but with a UI button.
+        return false;
+    }
+
+    @Override
+    public float getDesiredSpeed() {
+        return ModelConfig.STARTING_FRAME_RATE;
+    }
+
+    /**
+     * Returns a copy of the weights of the strategy.
+     * @return One weight per feature.
+     */
+    public float[] getWeights() {
+        return this.weights.clone();
+    }
+}
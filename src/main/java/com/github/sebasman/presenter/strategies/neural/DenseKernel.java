@@ -0,0 +1,41 @@
+package com.github.sebasman.presenter.strategies.neural;
+
+/**
+ * Computes the product of a dense layer with its input, the hot loop of a neural network.
+ * The weights of a layer are stored row-major (one row per output) in a flat array,
+ * immediately followed by one bias per output.
+ * Batches of inputs are matrices with one row per unit and one column per sample
+ * (struct-of-arrays), so the samples of a unit are contiguous and the product runs
+ * along them.
+ */
+public interface DenseKernel {
+    /**
+     * Computes output[r] = bias[r] + sum over c of W[r][c] * input[c].
+     * @param weights The parameters of the network.
+     * @param weightOffset The index of W[0][0]; the biases start at weightOffset + rows * cols.
+     * @param rows The number of outputs of the layer.
+     * @param cols The number of inputs of the layer.
+     * @param input The array holding the input vector.
+     * @param inputOffset The index of the first input.
+     * @param output The array receiving the output vector.
+     * @param outputOffset The index of the first output.
+     */
+    void multiply(float[] weights, int weightOffset, int rows, int cols,
+                  float[] input, int inputOffset, float[] output, int outputOffset);
+
+    /**
+     * Computes the layer for a batch of inputs at once:
+     * output[r][i] = bias[r] + sum over c of W[r][c] * input[c][i], for every sample i below count.
+     * Element [u][i] of the input and output matrices is at index u * stride + i.
+     * @param weights The parameters of the network.
+     * @param weightOffset The index of W[0][0]; the biases start at weightOffset + rows * cols.
+     * @param rows The number of outputs of the layer.
+     * @param cols The number of inputs of the layer.
+     * @param input The input matrix, cols rows of samples.
+     * @param output The output matrix, rows rows of samples.
+     * @param stride The distance between two rows of the matrices, at least count.
+     * @param count The number of samples.
+     */
+    void multiplyBatch(float[] weights, int weightOffset, int rows, int cols,
+                       float[] input, float[] output, int stride, int count);
+}
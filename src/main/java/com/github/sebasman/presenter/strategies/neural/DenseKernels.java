@@ -0,0 +1,60 @@
+package com.github.sebasman.presenter.strategies.neural;
+
+/**
+ * Chooses the implementation of the dense product once, at class initialization:
+ * the Vector API one if it was compiled (with the "vector" Maven profile) and the JVM
+ * was started with the jdk.incubator.vector module, the scalar one otherwise.
+ * The vector kernel is looked up by name and never loaded without the module,
+ * so the game builds and runs on any JDK.
+ */
+public final class DenseKernels {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "com.github.sebasman.presenter.strategies.neural.VectorKernel";
+    private static final DenseKernel BEST = selectBest();
+
+    /**
+     * Returns the fastest kernel available in this JVM.
+     * @return The shared kernel.
+     */
+    public static DenseKernel best() {
+        return BEST;
+    }
+
+    /**
+     * Returns the portable kernel.
+     * @return The shared scalar kernel.
+     */
+    public static DenseKernel scalar() {
+        return ScalarKernel.INSTANCE;
+    }
+
+    /**
+     * Checks if the vectorized kernel is in use.
+     * @return true if the Vector API is available.
+     */
+    public static boolean isVectorized() {
+        return !(BEST instanceof ScalarKernel);
+    }
+
+    /**
+     * Loads the vector kernel if it was compiled and its module is present.
+     * @return The kernel to use.
+     */
+    private static DenseKernel selectBest() {
+        if(ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) return ScalarKernel.INSTANCE;
+        try {
+            return Class.forName(VECTOR_KERNEL).asSubclass(DenseKernel.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            // The build did not include the vector kernel.
+            return ScalarKernel.INSTANCE;
+        } catch (LinkageError e) {
+            // The module is there but cannot be used on this platform.
+            return ScalarKernel.INSTANCE;
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation, since it is a utility class.
+     */
+    private DenseKernels() {}
+}
@@ -0,0 +1,113 @@
+package com.github.sebasman.presenter.strategies.neural;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compact binary format of the trained networks, so policies evolved by the genetic trainer
+ * or trained outside the game can be loaded. All values are big-endian:
+ * <pre>
+ * int     magic       0x56564E4E ("VVNN")
+ * int     version     1
+ * int     layerCount
+ * int[]   layerSizes  the input layer first
+ * float[] parameters  for each layer, its weights row-major followed by its biases
+ * </pre>
+ */
+public final class NetworkFile {
+    private static final int MAGIC = 0x56564E4E;
+    private static final int VERSION = 1;
+    // Upper bounds of the layers, the units of a layer and the parameters of a file,
+    // to reject corrupted headers before allocating anything
+    private static final int MAX_LAYERS = 64;
+    private static final int MAX_UNITS = 1 << 16;
+    private static final long MAX_PARAMETERS = 1 << 26;
+
+    /**
+     * Reads a network from a file.
+     * @param path The file.
+     * @return A new network with the shape and parameters of the file.
+     * @throws IOException if the file cannot be read or is not a network file.
+     */
+    public static NeuralNetwork read(Path path) throws IOException {
+        try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))){
+            if(in.readInt() != MAGIC) throw new IOException("Not a network file: " + path);
+            int version = in.readInt();
+            if(version != VERSION) throw new IOException("Unsupported network file version " + version + ".");
+            int layerCount = in.readInt();
+            if(layerCount < 2 || layerCount > MAX_LAYERS) throw new IOException("Invalid number of layers: " + layerCount + ".");
+            int[] layerSizes = new int[layerCount];
+            for(int l = 0; l < layerCount; l++){
+                layerSizes[l] = in.readInt();
+                if(layerSizes[l] < 1 || layerSizes[l] > MAX_UNITS) throw new IOException("Invalid network shape.");
+            }
+            // The parameters must fit in the cap and in what is left of the file.
+            long parameterCount = countParameters(layerSizes);
+            long headerBytes = (long) Integer.BYTES * (3 + layerCount);
+            if(parameterCount > MAX_PARAMETERS || parameterCount * Float.BYTES > Files.size(path) - headerBytes){
+                throw new IOException("Invalid network shape.");
+            }
+            NeuralNetwork network;
+            try {
+                network = new NeuralNetwork(layerSizes);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid network shape.", e);
+            }
+            float[] parameters = new float[(int) parameterCount];
+            for(int i = 0; i < parameters.length; i++){
+                parameters[i] = in.readFloat();
+            }
+            network.setParameters(parameters);
+            return network;
+        }
+    }
+
+    /**
+     * Counts the parameters of a shape read from a file, without overflowing.
+     * @param layerSizes The number of units of each layer, all positive.
+     * @return The number of weights and biases of the network.
+     * @throws IOException if the count does not fit in a long.
+     */
+    private static long countParameters(int[] layerSizes) throws IOException {
+        try {
+            long count = 0;
+            for(int l = 1; l < layerSizes.length; l++){
+                count = Math.addExact(count, Math.multiplyExact((long) layerSizes[l], layerSizes[l - 1] + 1L));
+            }
+            return count;
+        } catch (ArithmeticException e) {
+            throw new IOException("Invalid network shape.", e);
+        }
+    }
+
+    /**
+     * Writes a network to a file, replacing it if it exists.
+     * @param path The file.
+     * @param network The network to save.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Path path, NeuralNetwork network) throws IOException {
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))){
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            int[] layerSizes = network.getLayerSizes();
+            out.writeInt(layerSizes.length);
+            for(int size : layerSizes){
+                out.writeInt(size);
+            }
+            for(float parameter : network.getParameters()){
+                out.writeFloat(parameter);
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation, since it is a utility class.
+     */
+    private NetworkFile() {}
+}
@@ -0,0 +1,180 @@
+package com.github.sebasman.presenter.strategies.neural;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Small fully connected feed-forward network with ReLU hidden layers and a linear output layer.
+ * All the parameters live in a single flat float array (for each layer, its weights row-major
+ * followed by its biases), which is also the genome the genetic trainer evolves, and every
+ * activation buffer is allocated once, so a forward pass allocates nothing.
+ * Batches of inputs are evaluated layer by layer as matrix products (see {@link DenseKernel}),
+ * with buffers that only grow when a larger batch arrives.
+ * An instance is not thread-safe: each strategy must own its own network.
+ */
+public final class NeuralNetwork {
+    private final int[] layerSizes;
+    // Parameters of every layer, and the index where each layer starts
+    private final float[] parameters;
+    private final int[] layerOffsets;
+    // Output buffer of each layer
+    private final float[][] activations;
+    // Output matrix of each layer for batches, grown on demand
+    private final float[][] batchActivations;
+    private final DenseKernel kernel;
+
+    /**
+     * Builds a network with zero parameters that uses the fastest kernel available.
+     * @param layerSizes The number of units of each layer, the input layer first.
+     */
+    public NeuralNetwork(int... layerSizes) {
+        this(DenseKernels.best(), layerSizes);
+    }
+
+    /**
+     * Builds a network with zero parameters.
+     * @param kernel The implementation of the dense product.
+     * @param layerSizes The number of units of each layer, the input layer first.
+     */
+    public NeuralNetwork(DenseKernel kernel, int... layerSizes) {
+        this.kernel = Objects.requireNonNull(kernel, "Kernel cannot be null");
+        this.layerSizes = layerSizes.clone();
+        this.parameters = new float[parameterCount(layerSizes)];
+        this.layerOffsets = new int[layerSizes.length - 1];
+        this.activations = new float[layerSizes.length - 1][];
+        this.batchActivations = new float[layerSizes.length - 1][0];
+        int offset = 0;
+        for(int l = 1; l < layerSizes.length; l++){
+            this.layerOffsets[l - 1] = offset;
+            this.activations[l - 1] = new float[layerSizes[l]];
+            offset += layerSizes[l] * (layerSizes[l - 1] + 1);
+        }
+    }
+
+    /**
+     * Returns the number of parameters (weights and biases) of a network.
+     * @param layerSizes The number of units of each layer, the input layer first.
+     * @return The length of the parameter array.
+     * @throws IllegalArgumentException if there are less than two layers, a layer is empty or the count does not fit in an int.
+     */
+    public static int parameterCount(int... layerSizes) {
+        if(layerSizes.length < 2) throw new IllegalArgumentException("A network needs an input and an output layer.");
+        int count = 0;
+        for(int l = 0; l < layerSizes.length; l++){
+            if(layerSizes[l] <= 0) throw new IllegalArgumentException("Every layer needs at least one unit.");
+            if(l > 0){
+                try {
+                    count = Math.addExact(count, Math.multiplyExact(layerSizes[l], Math.addExact(layerSizes[l - 1], 1)));
+                } catch (ArithmeticException e) {
+                    throw new IllegalArgumentException("The network has too many parameters.", e);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Computes the output of the network.
+     * @param input The array holding the input vector.
+     * @param offset The index of the first input.
+     * @return The output buffer of the network, overwritten by the next pass.
+     */
+    public float[] forward(float[] input, int offset) {
+        float[] current = input;
+        int currentOffset = offset;
+        int last = this.activations.length - 1;
+        for(int l = 0; l <= last; l++){
+            float[] output = this.activations[l];
+            this.kernel.multiply(this.parameters, this.layerOffsets[l], this.layerSizes[l + 1], this.layerSizes[l],
+                    current, currentOffset, output, 0);
+            if(l < last){
+                for(int i = 0; i < output.length; i++){
+                    if(output[i] < 0f) output[i] = 0f;
+                }
+            }
+            current = output;
+            currentOffset = 0;
+        }
+        return current;
+    }
+
+    /**
+     * Computes the output of the network for a batch of inputs.
+     * @param input The input matrix: input u of sample i at index u * stride + i.
+     * @param stride The distance between two rows of the matrix, at least count.
+     * @param count The number of samples.
+     * @return The output matrix, with the same layout and stride, overwritten by the next batch.
+     */
+    public float[] forwardBatch(float[] input, int stride, int count) {
+        if(count < 0 || stride < count) throw new IllegalArgumentException("The stride must cover the samples.");
+        float[] current = input;
+        int last = this.batchActivations.length - 1;
+        for(int l = 0; l <= last; l++){
+            int rows = this.layerSizes[l + 1];
+            if(this.batchActivations[l].length < rows * stride){
+                this.batchActivations[l] = new float[rows * stride];
+            }
+            float[] output = this.batchActivations[l];
+            this.kernel.multiplyBatch(this.parameters, this.layerOffsets[l], rows, this.layerSizes[l],
+                    current, output, stride, count);
+            if(l < last){
+                for(int r = 0; r < rows; r++){
+                    int row = r * stride;
+                    for(int i = row; i < row + count; i++){
+                        if(output[i] < 0f) output[i] = 0f;
+                    }
+                }
+            }
+            current = output;
+        }
+        return current;
+    }
+
+    /**
+     * Replaces every parameter of the network.
+     * @param parameters The new parameters, in the layout described in the class; they are copied.
+     */
+    public void setParameters(float[] parameters) {
+        if(parameters.length != this.parameters.length){
+            throw new IllegalArgumentException("Expected " + this.parameters.length + " parameters, got " + parameters.length + ".");
+        }
+        System.arraycopy(parameters, 0, this.parameters, 0, parameters.length);
+    }
+
+    /**
+     * Returns a copy of the parameters of the network.
+     * @return The weights and biases of every layer.
+     */
+    public float[] getParameters() {
+        return this.parameters.clone();
+    }
+
+    /**
+     * Returns the shape of the network.
+     * @return The number of units of each layer, the input layer first.
+     */
+    public int[] getLayerSizes() {
+        return this.layerSizes.clone();
+    }
+
+    /**
+     * Returns the size of the input vector.
+     * @return The number of units of the input layer.
+     */
+    public int getInputSize() {
+        return this.layerSizes[0];
+    }
+
+    /**
+     * Returns the size of the output vector.
+     * @return The number of units of the output layer.
+     */
+    public int getOutputSize() {
+        return this.layerSizes[this.layerSizes.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return "NeuralNetwork" + Arrays.toString(this.layerSizes);
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.sebasman.presenter.strategies.neural;
+
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.presenter.IBatchPolicy;
+import com.github.sebasman.contracts.presenter.IControlStrategy;
+import com.github.sebasman.contracts.view.IGameContext;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.model.config.ModelConfig;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * An AI strategy whose decision is the output of a small neural network evaluated over the
+ * observation of the snake (see {@link ObservationEncoder}): the move with the highest output
+ * among the non-fatal ones is taken. The observation and activation buffers are allocated
+ * once, so a decision allocates nothing. The network can be evolved by the genetic trainer
+ * or loaded from a file written by {@link NetworkFile}.
+ * Many games can also be decided in one call through {@link IBatchPolicy}, which evaluates the
+ * network over the whole observation matrix instead of one vector per game.
+ */
+public final class NeuralPolicyStrategy implements IControlStrategy, IBatchPolicy {
+    /** Shape of the networks evolved by the trainer: observation, one hidden layer, one output per action. */
+    public static final int[] DEFAULT_LAYERS = {ObservationEncoder.SIZE, 16, ObservationEncoder.ACTIONS};
+
+    private final NeuralNetwork network;
+    private final ObservationEncoder encoder;
+    private final float[] observation;
+
+    /**
+     * Builds the strategy around a network, which it owns from now on.
+     * @param network A network with {@link ObservationEncoder#SIZE} inputs and {@link ObservationEncoder#ACTIONS} outputs.
+     */
+    public NeuralPolicyStrategy(NeuralNetwork network) {
+        this.network = Objects.requireNonNull(network, "Network cannot be null");
+        if(network.getInputSize() != ObservationEncoder.SIZE || network.getOutputSize() != ObservationEncoder.ACTIONS){
+            throw new IllegalArgumentException("The network must map " + ObservationEncoder.SIZE
+                    + " inputs to " + ObservationEncoder.ACTIONS + " outputs.");
+        }
+        this.encoder = new ObservationEncoder();
+        this.observation = new float[ObservationEncoder.SIZE];
+    }
+
+    /**
+     * Builds the strategy with a network of the default shape, e.g. from a genome of the trainer.
+     * @param parameters The parameters of the network; they are copied.
+     * @return The new strategy.
+     */
+    public static NeuralPolicyStrategy withParameters(float[] parameters) {
+        NeuralNetwork network = new NeuralNetwork(DEFAULT_LAYERS);
+        network.setParameters(parameters);
+        return new NeuralPolicyStrategy(network);
+    }
+
+    /**
+     * Builds the strategy with a network stored in a file.
+     * @param path The file written by {@link NetworkFile}.
+     * @return The new strategy.
+     * @throws IOException if the file cannot be read.
+     */
+    public static NeuralPolicyStrategy fromFile(Path path) throws IOException {
+        return new NeuralPolicyStrategy(NetworkFile.read(path));
+    }
+
+    @Override
+    public void update(IGameSession session, ISnakeAPI snake) {
+        this.encoder.encode(snake, session.getFood().getPosition(), this.observation, 0);
+        float[] output = this.network.forward(this.observation, 0);
+        snake.bufferDirection(ObservationEncoder.relative(snake.getDirection(), selectAction(this.observation, 0, 1, output, 0, 1)));
+    }
+
+    @Override
+    public int getObservationSize() {
+        return ObservationEncoder.SIZE;
+    }
+
+    @Override
+    public void observe(IGameSession session, ISnakeAPI snake, float[] observations, int column, int stride) {
+        this.encoder.encode(snake, session.getFood().getPosition(), observations, column, stride);
+    }
+
+    @Override
+    public void decide(float[] observations, int stride, int count, Direction[] headings, Direction[] decisions) {
+        float[] output = this.network.forwardBatch(observations, stride, count);
+        for(int i = 0; i < count; i++){
+            decisions[i] = ObservationEncoder.relative(headings[i], selectAction(observations, i, stride, output, i, stride));
+        }
+    }
+
+    /**
+     * Chooses the action with the highest output among the non-fatal ones.
+     * @param observation The buffer holding the observation.
+     * @param observationOffset The index where the observation starts.
+     * @param observationStride The distance between two values of the observation.
+     * @param output The buffer holding the outputs of the network.
+     * @param outputOffset The index of the output of the first action.
+     * @param outputStride The distance between the outputs of two actions.
+     * @return The chosen action; straight ahead if every action is fatal.
+     */
+    static int selectAction(float[] observation, int observationOffset, int observationStride,
+                            float[] output, int outputOffset, int outputStride) {
+        int best = ObservationEncoder.STRAIGHT;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for(int action = 0; action < ObservationEncoder.ACTIONS; action++){
+            if(ObservationEncoder.isFatal(observation, observationOffset, observationStride, action)) continue;
+            float value = output[outputOffset + action * outputStride];
+            if(value > bestValue){
+                best = action;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void keyPressed(IGameContext game, ISnakeAPI snake, int keyCode) {
+        // The AI doesn't respond to the keyboard, so this method is empty.
+    }
+
+    @Override
+    public boolean isGameStartAction(int keyCode) {
+        // The AI does not start the game with a key, but with a UI button.
+        return false;
+    }
+
+    @Override
+    public float getDesiredSpeed() {
+        return ModelConfig.STARTING_FRAME_RATE;
+    }
+
+    /**
+     * Returns the network of the strategy.
+     * @return The network, owned by this strategy.
+     */
+    public NeuralNetwork getNetwork() {
+        return this.network;
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.sebasman.presenter.strategies.neural;
+
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.presenter.strategies.pathfinding.FloodFillEvaluator;
+
+/**
+ * Describes the situation of the snake as a compact vector of floats, relative to its heading,
+ * so the same policy works whatever direction the snake is facing.
+ * For each of the three possible moves (turn left, go straight, turn right) it gives five values:
+ * <ol>
+ *     <li>1 if the move is fatal (wall or body), 0 otherwise;</li>
+ *     <li>the inverse of the distance to the wall in that direction;</li>
+ *     <li>the inverse of the distance to the body in that direction, 0 if there is none;</li>
+ *     <li>1 if the food is straight ahead in that direction;</li>
+ *     <li>the free area reachable after the move (bounded flood fill), relative to the length.</li>
+ * </ol>
+ * followed by the position of the food in the frame of the head (ahead and to the right,
+ * relative to the board size) and the fraction of the board covered by the snake.
+ * Observations can be written as a row of values, or as a column of a matrix holding the
+ * observations of a batch of games (value k of the column at offset + k * stride).
+ * An instance reuses its buffers and is not thread-safe.
+ */
+public final class ObservationEncoder {
+    /** Number of possible moves, which is the size of the output of a policy. */
+    public static final int ACTIONS = 3;
+    /** Action that turns to the left of the heading. */
+    public static final int TURN_LEFT = 0;
+    /** Action that keeps the heading. */
+    public static final int STRAIGHT = 1;
+    /** Action that turns to the right of the heading. */
+    public static final int TURN_RIGHT = 2;
+    // Values described for each move
+    private static final int VALUES_PER_ACTION = 5;
+    /** Length of an observation. */
+    public static final int SIZE = ACTIONS * VALUES_PER_ACTION + 3;
+
+    private FloodFillEvaluator floodFill;
+
+    /**
+     * Writes the observation of a snake into a buffer.
+     * @param snake The snake, before its next move.
+     * @param food The position of the food, or null if there is none.
+     * @param out The buffer, e.g. a row of a matrix of observations.
+     * @param offset The index where the observation starts; {@link #SIZE} values are written.
+     */
+    public void encode(ISnakeAPI snake, Position food, float[] out, int offset) {
+        this.encode(snake, food, out, offset, 1);
+    }
+
+    /**
+     * Writes the observation of a snake into a buffer, spacing its values.
+     * @param snake The snake, before its next move.
+     * @param food The position of the food, or null if there is none.
+     * @param out The buffer, e.g. a matrix of observations with one column per game.
+     * @param offset The index of the first value.
+     * @param stride The distance between two consecutive values.
+     */
+    public void encode(ISnakeAPI snake, Position food, float[] out, int offset, int stride) {
+        IOccupancyGrid board = snake.getOccupancy();
+        this.ensureBuffers(board);
+        int width = board.getWidth();
+        int height = board.getHeight();
+        Position head = snake.getHead();
+        Direction heading = snake.getDirection();
+        int length = snake.getLength();
+        int tailCell = snake.getSegmentCell(length - 1);
+        boolean tailMoves = !snake.isGrowing();
+
+        for(int action = 0; action < ACTIONS; action++){
+            Direction direction = relative(heading, action);
+            int base = offset + action * VALUES_PER_ACTION * stride;
+            int dx = direction.getDx();
+            int dy = direction.getDy();
+            // Walk the ray until the wall, noting the first body cell.
+            int wallDistance = 0;
+            int bodyDistance = 0;
+            boolean foodAhead = false;
+            int x = head.x() + dx;
+            int y = head.y() + dy;
+            while(board.isInside(x, y)){
+                wallDistance++;
+                int cell = y * width + x;
+                if(bodyDistance == 0 && board.isOccupied(cell) && !(tailMoves && cell == tailCell)) bodyDistance = wallDistance;
+                if(food != null && food.x() == x && food.y() == y) foodAhead = true;
+                x += dx;
+                y += dy;
+            }
+            boolean fatal = wallDistance == 0 || bodyDistance == 1;
+            out[base] = fatal ? 1f : 0f;
+            out[base + stride] = 1f / (wallDistance + 1);
+            out[base + 2 * stride] = bodyDistance == 0 ? 0f : 1f / bodyDistance;
+            out[base + 3 * stride] = foodAhead ? 1f : 0f;
+            if(fatal){
+                out[base + 4 * stride] = 0f;
+            } else {
+                int cell = (head.y() + dy) * width + head.x() + dx;
+                int limit = 2 * length;
+                out[base + 4 * stride] = (float) this.floodFill.fill(cell, board, tailCell, limit) / limit;
+            }
+        }
+        int global = offset + ACTIONS * VALUES_PER_ACTION * stride;
+        if(food != null){
+            int fx = food.x() - head.x();
+            int fy = food.y() - head.y();
+            Direction right = relative(heading, TURN_RIGHT);
+            float scale = Math.max(width, height);
+            out[global] = (fx * heading.getDx() + fy * heading.getDy()) / scale;
+            out[global + stride] = (fx * right.getDx() + fy * right.getDy()) / scale;
+        } else {
+            out[global] = 0f;
+            out[global + stride] = 0f;
+        }
+        out[global + 2 * stride] = (float) length / (width * height);
+    }
+
+    /**
+     * Checks in an encoded observation whether an action is fatal.
+     * @param observation The buffer holding the observation.
+     * @param offset The index where the observation starts.
+     * @param action The action.
+     * @return true if the action hits a wall or the body.
+     */
+    public static boolean isFatal(float[] observation, int offset, int action) {
+        return isFatal(observation, offset, 1, action);
+    }
+
+    /**
+     * Checks in an encoded observation with spaced values whether an action is fatal.
+     * @param observation The buffer holding the observation.
+     * @param offset The index of the first value.
+     * @param stride The distance between two consecutive values.
+     * @param action The action.
+     * @return true if the action hits a wall or the body.
+     */
+    public static boolean isFatal(float[] observation, int offset, int stride, int action) {
+        return observation[offset + action * VALUES_PER_ACTION * stride] != 0f;
+    }
+
+    /**
+     * Converts an action to an absolute direction.
+     * @param heading The current direction of the snake.
+     * @param action {@link #TURN_LEFT}, {@link #STRAIGHT} or {@link #TURN_RIGHT}.
+     * @return The direction of the move.
+     */
+    public static Direction relative(Direction heading, int action) {
+        return switch (action) {
+            case TURN_LEFT -> switch (heading) {
+                case UP -> Direction.LEFT;
+                case LEFT -> Direction.DOWN;
+                case DOWN -> Direction.RIGHT;
+                case RIGHT -> Direction.UP;
+            };
+            case TURN_RIGHT -> switch (heading) {
+                case UP -> Direction.RIGHT;
+                case RIGHT -> Direction.DOWN;
+                case DOWN -> Direction.LEFT;
+                case LEFT -> Direction.UP;
+            };
+            default -> heading;
+        };
+    }
+
+    /**
+     * (Re)creates the flood fill when the board dimensions change.
+     * @param board The occupancy grid of the current board.
+     */
+    private void ensureBuffers(IOccupancyGrid board) {
+        if(this.floodFill == null || this.floodFill.getWidth() != board.getWidth() || this.floodFill.getHeight() != board.getHeight()){
+            this.floodFill = new FloodFillEvaluator(board.getWidth(), board.getHeight());
+        }
+    }
+}
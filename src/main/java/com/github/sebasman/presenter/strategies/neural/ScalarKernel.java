@@ -0,0 +1,56 @@
+package com.github.sebasman.presenter.strategies.neural;
+
+/**
+ * Portable implementation of the dense product with plain loops,
+ * which the JIT is free to auto-vectorize.
+ */
+final class ScalarKernel implements DenseKernel {
+    static final ScalarKernel INSTANCE = new ScalarKernel();
+    // Samples per block of a batch, so the block of every input row stays in the L1 cache
+    // while all the rows of the layer are accumulated over it
+    private static final int BATCH_BLOCK = 256;
+
+    /**
+     * Private constructor, the kernel is stateless and shared.
+     */
+    private ScalarKernel() {}
+
+    @Override
+    public void multiply(float[] weights, int weightOffset, int rows, int cols,
+                         float[] input, int inputOffset, float[] output, int outputOffset) {
+        int biasOffset = weightOffset + rows * cols;
+        for(int r = 0; r < rows; r++){
+            int row = weightOffset + r * cols;
+            float sum = 0f;
+            for(int c = 0; c < cols; c++){
+                sum += weights[row + c] * input[inputOffset + c];
+            }
+            output[outputOffset + r] = sum + weights[biasOffset + r];
+        }
+    }
+
+    @Override
+    public void multiplyBatch(float[] weights, int weightOffset, int rows, int cols,
+                              float[] input, float[] output, int stride, int count) {
+        int biasOffset = weightOffset + rows * cols;
+        for(int start = 0; start < count; start += BATCH_BLOCK){
+            int end = Math.min(start + BATCH_BLOCK, count);
+            for(int r = 0; r < rows; r++){
+                int out = r * stride;
+                float bias = weights[biasOffset + r];
+                for(int i = start; i < end; i++){
+                    output[out + i] = bias;
+                }
+                // One multiply-add of a weight over contiguous samples, which the JIT vectorizes.
+                int row = weightOffset + r * cols;
+                for(int c = 0; c < cols; c++){
+                    float w = weights[row + c];
+                    int in = c * stride;
+                    for(int i = start; i < end; i++){
+                        output[out + i] += w * input[in + i];
+                    }
+                }
+            }
+        }
+    }
+}
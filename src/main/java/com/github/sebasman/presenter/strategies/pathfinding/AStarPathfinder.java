@@ -0,0 +1,252 @@
+package com.github.sebasman.presenter.strategies.pathfinding;
+
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.contracts.vo.PositionTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reusable A* engine that works directly on cell indices (y * width + x).
+ * Costs, parents and obstacles are stored in primitive arrays that are invalidated
+ * with generation stamps instead of being cleared, and the open set is an indexed
+ * binary heap with a real decrease-key. A search allocates nothing but the returned path.
+ * It can search either around static obstacles or in space-time, where each body cell
+ * becomes passable once the tail has left it.
+ * An instance is not thread-safe: each strategy must own its own engine.
+ */
+public final class AStarPathfinder {
+    // Cached copy of the directions, since Direction.values() allocates a new array on each call
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // Dimensions of the grid
+    private final int width;
+    private final int height;
+    // Search state, indexed by cell
+    private final int[] gCost;
+    private final int[] parent;
+    private final int[] visitStamp;
+    private final int[] closedStamp;
+    private int searchGeneration;
+    // Open set of the search
+    private final IndexedMinHeap openSet;
+    // Canonical positions of the grid, so the returned paths reuse shared instances
+    private final PositionTable positions;
+
+    /**
+     * Builds an engine for a grid of the given dimensions.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     */
+    public AStarPathfinder(int width, int height) {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("Grid dimensions must be positive.");
+        this.width = width;
+        this.height = height;
+        int cells = width * height;
+        this.gCost = new int[cells];
+        this.parent = new int[cells];
+        this.visitStamp = new int[cells];
+        this.closedStamp = new int[cells];
+        this.openSet = new IndexedMinHeap(cells);
+        this.positions = PositionTable.forGrid(width, height);
+        this.searchGeneration = 0;
+    }
+
+    // --- Search ---
+
+    /**
+     * Finds the shortest path between two positions avoiding the occupied cells of a grid.
+     * The target is always considered reachable even if it is occupied,
+     * and the first step may not reverse the given initial direction.
+     * @param start Initial location of the search (not included in the path).
+     * @param target Target arrival of the search (included in the path).
+     * @param initialDirection The current direction of the snake to avoid reversal.
+     * @param obstacles The grid of blocked cells, with the same dimensions as this engine.
+     * @return A list of positions to be followed, or null if there is no route.
+     */
+    public List<Position> findPath(Position start, Position target, Direction initialDirection, IOccupancyGrid obstacles) {
+        return this.search(start, target, initialDirection, obstacles, null, null);
+    }
+
+    /**
+     * Finds the shortest path between two positions avoiding the occupied cells of a grid,
+     * guided by the distance field of the target instead of the Manhattan distance.
+     * The field is exact up to the cells blocked since it was built, so on an open board the
+     * search walks straight down the field, and cells that cannot reach the target are skipped.
+     * @param start Initial location of the search (not included in the path).
+     * @param target Target arrival of the search (included in the path).
+     * @param initialDirection The current direction of the snake to avoid reversal.
+     * @param obstacles The grid of blocked cells, the same one the field was last updated with.
+     * @param field The distance field whose source is the target.
+     * @return A list of positions to be followed, or null if there is no route.
+     * @throws IllegalArgumentException if the field is not measured to the target.
+     */
+    public List<Position> findPath(Position start, Position target, Direction initialDirection,
+                                   IOccupancyGrid obstacles, DistanceField field) {
+        Objects.requireNonNull(field, "Distance field cannot be null");
+        return this.search(start, target, initialDirection, obstacles, null, field);
+    }
+
+    /**
+     * Finds the shortest path between two positions in space-time: since the snake moves one
+     * cell per tick, the cell reached after n steps is entered at tick n, and a body cell is
+     * passable if the body has left it by then. Paths through areas that the tail is going to
+     * free are therefore found without simulating the moves.
+     * Each cell is expanded once, with the earliest tick at which it can be reached: every path
+     * returned is valid, but a path that would need a detour to wait for the tail may be missed.
+     * The first step may not reverse the given initial direction.
+     * @param start Initial location of the search (not included in the path).
+     * @param target Target arrival of the search (included in the path).
+     * @param initialDirection The current direction of the snake to avoid reversal.
+     * @param obstacles The tick at which each cell is free, with the same dimensions as this engine.
+     * @return A list of positions to be followed, or null if there is no route.
+     */
+    public List<Position> findTimedPath(Position start, Position target, Direction initialDirection, TimedOccupancy obstacles) {
+        return this.search(start, target, initialDirection, null, obstacles, null);
+    }
+
+    /**
+     * Shared A* search. Exactly one of both obstacle representations is given.
+     * @param start Initial location of the search.
+     * @param target Target arrival of the search.
+     * @param initialDirection The current direction of the snake to avoid reversal.
+     * @param staticObstacles The blocked cells, for a static search (the target is always allowed).
+     * @param timedObstacles The free-at tick of each cell, for a space-time search.
+     * @param field The distance field of the target used as heuristic, or null for the Manhattan distance.
+     * @return A list of positions to be followed, or null if there is no route.
+     */
+    private List<Position> search(Position start, Position target, Direction initialDirection,
+                                  IOccupancyGrid staticObstacles, TimedOccupancy timedObstacles, DistanceField field) {
+        if(start == null || target == null) return null;
+        if(!this.isInside(start.x(), start.y()) || !this.isInside(target.x(), target.y())) return null;
+        int startCell = this.toIndex(start.x(), start.y());
+        int targetCell = this.toIndex(target.x(), target.y());
+        if(field != null && field.getSourceCell() != targetCell){
+            throw new IllegalArgumentException("The distance field is not measured to the target.");
+        }
+        int forbiddenDx = initialDirection == null ? 0 : -initialDirection.getDx();
+        int forbiddenDy = initialDirection == null ? 0 : -initialDirection.getDy();
+
+        this.beginSearch();
+        this.visit(startCell, 0, -1);
+        float startH = this.heuristic(startCell, targetCell, field);
+        this.openSet.insertOrDecrease(startCell, startH, startH);
+        while(!this.openSet.isEmpty()){
+            int current = this.openSet.poll();
+            // Already arrived at its destination
+            if(current == targetCell){
+                return this.reconstructPath(current);
+            }
+            this.closedStamp[current] = this.searchGeneration;
+            int x = current % this.width;
+            int y = current / this.width;
+            int nextCost = this.gCost[current] + 1;
+            // Verify each position direction
+            for(Direction direction : DIRECTIONS){
+                int dx = direction.getDx();
+                int dy = direction.getDy();
+                // Only for the initial node, we respect the current direction of the snake.
+                if(current == startCell && dx == forbiddenDx && dy == forbiddenDy) continue;
+                int nx = x + dx;
+                int ny = y + dy;
+                if(!this.isInside(nx, ny)) continue;
+                int neighbor = this.toIndex(nx, ny);
+                if(this.closedStamp[neighbor] == this.searchGeneration) continue;
+                if(staticObstacles != null){
+                    if(staticObstacles.isOccupied(neighbor) && neighbor != targetCell) continue;
+                } else if(!timedObstacles.isFreeAt(neighbor, nextCost)) continue;
+                if(this.visitStamp[neighbor] == this.searchGeneration && nextCost >= this.gCost[neighbor]) continue;
+                float h = this.heuristic(neighbor, targetCell, field);
+                // According to the field, the target cannot be reached from this cell.
+                if(h == Float.POSITIVE_INFINITY) continue;
+                this.visit(neighbor, nextCost, current);
+                this.openSet.insertOrDecrease(neighbor, nextCost + h, h);
+            }
+        }
+        // No route found
+        return null;
+    }
+
+    /**
+     * Starts a new search invalidating the previous search state in constant time.
+     */
+    private void beginSearch() {
+        this.openSet.clear();
+        this.searchGeneration++;
+        if(this.searchGeneration == Integer.MAX_VALUE){
+            Arrays.fill(this.visitStamp, 0);
+            Arrays.fill(this.closedStamp, 0);
+            this.searchGeneration = 1;
+        }
+    }
+
+    /**
+     * Records the best known cost and parent of a cell for the current search.
+     * @param cell The cell reached.
+     * @param cost The cost from the start.
+     * @param from The cell from which it was reached (-1 for the start).
+     */
+    private void visit(int cell, int cost, int from) {
+        this.visitStamp[cell] = this.searchGeneration;
+        this.gCost[cell] = cost;
+        this.parent[cell] = from;
+    }
+
+    /**
+     * Reconstructs the path by following the parent of each cell back to the start.
+     * @param targetCell The destination cell.
+     * @return A list of Positions representing the route to take (start excluded).
+     */
+    private List<Position> reconstructPath(int targetCell) {
+        int length = this.gCost[targetCell];
+        List<Position> path = new ArrayList<>(length);
+        for(int i = 0; i < length; i++){
+            path.add(null);
+        }
+        int current = targetCell;
+        for(int i = length - 1; i >= 0; i--){
+            path.set(i, this.positions.ofCell(current));
+            current = this.parent[current];
+        }
+        return path;
+    }
+
+    /**
+     * Heuristic distance between a cell and the target: the distance field if there is one,
+     * the Manhattan distance otherwise.
+     * @param a The cell.
+     * @param b The target cell.
+     * @param field The distance field of the target, or null.
+     * @return The estimated distance, infinite if the field cannot reach the cell.
+     */
+    private float heuristic(int a, int b, DistanceField field) {
+        if(field != null){
+            int distance = field.distance(a);
+            return distance == DistanceField.UNREACHABLE ? Float.POSITIVE_INFINITY : distance;
+        }
+        return Math.abs(a % this.width - b % this.width) + Math.abs(a / this.width - b / this.width);
+    }
+
+    /**
+     * Checks if a coordinate is inside the grid.
+     * @param x Column.
+     * @param y Row.
+     * @return true if it is inside the grid.
+     */
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < this.width && y >= 0 && y < this.height;
+    }
+
+    /**
+     * Converts a coordinate to its cell index.
+     * @param x Column.
+     * @param y Row.
+     * @return The index of the cell.
+     */
+    private int toIndex(int x, int y) {
+        return y * this.width + x;
+    }
+}
@@ -0,0 +1,256 @@
+package com.github.sebasman.presenter.strategies.pathfinding;
+
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.model.grid.OccupancyGrid;
+
+import java.util.Arrays;
+
+/**
+ * Distance from every cell of the board to a source cell (the food), walking only through
+ * free cells, computed with a breadth-first search into an int table.
+ * The field is keyed by the source and the version of the obstacle grid: while the source
+ * stays put, an update only looks at the blocked cells that border the reached area, and
+ * propagates the shorter distances opened by the ones that became free (the tail moving away).
+ * Cells that become blocked afterwards (the head moving forward) are not taken into account,
+ * so the distances never overestimate: the field is an admissible, and usually exact, heuristic.
+ * An instance is not thread-safe: each planner must own its own field.
+ */
+public final class DistanceField {
+    // Distance of the cells that cannot reach the source
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    // Dimensions of the grid
+    private final int width;
+    private final int height;
+    // Distance of each cell to the source
+    private final int[] distance;
+    // Cells still treated as obstacles by the field
+    private final OccupancyGrid blocked;
+    // Blocked cells next to the reached area, the only ones whose release changes the field
+    private final int[] watched;
+    private final boolean[] isWatched;
+    private int watchedCount;
+    // Circular FIFO queue of the propagation, with a mark for the cells already in it
+    private final int[] queue;
+    private final boolean[] queued;
+    private int queueHead;
+    private int queueSize;
+    // Key of the current field
+    private int sourceCell;
+    private IOccupancyGrid sourceGrid;
+    private long sourceVersion;
+
+    /**
+     * Builds an empty field for a grid of the given dimensions.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     */
+    public DistanceField(int width, int height) {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("Grid dimensions must be positive.");
+        this.width = width;
+        this.height = height;
+        int cells = width * height;
+        this.distance = new int[cells];
+        this.blocked = new OccupancyGrid(width, height);
+        this.watched = new int[cells];
+        this.isWatched = new boolean[cells];
+        this.queue = new int[cells];
+        this.queued = new boolean[cells];
+        this.sourceCell = -1;
+    }
+
+    /**
+     * Brings the field up to date for a source and the current obstacles:
+     * nothing is done if neither has changed, the field is rebuilt if the source moved,
+     * and only the released cells are propagated otherwise.
+     * @param source The cell the distances are measured to, or null to invalidate the field.
+     * @param obstacles The occupied cells, with the same dimensions as this field.
+     */
+    public void update(Position source, IOccupancyGrid obstacles) {
+        if(source == null || source.x() < 0 || source.x() >= this.width || source.y() < 0 || source.y() >= this.height){
+            this.sourceCell = -1;
+            this.sourceGrid = null;
+            return;
+        }
+        if(obstacles.getWidth() != this.width || obstacles.getHeight() != this.height){
+            throw new IllegalArgumentException("Obstacle grid dimensions do not match the field.");
+        }
+        int cell = source.y() * this.width + source.x();
+        if(cell != this.sourceCell){
+            this.rebuild(cell, obstacles);
+        } else if(obstacles != this.sourceGrid || obstacles.getVersion() != this.sourceVersion){
+            this.releaseFreedCells(obstacles);
+        }
+        this.sourceGrid = obstacles;
+        this.sourceVersion = obstacles.getVersion();
+    }
+
+    /**
+     * Returns the distance from a cell to the source.
+     * @param cell The cell index.
+     * @return The number of steps, or {@link #UNREACHABLE}.
+     */
+    public int distance(int cell) {
+        return this.distance[cell];
+    }
+
+    /**
+     * Returns the cell the distances are measured to.
+     * @return The cell index of the source, or -1 if the field is not valid.
+     */
+    public int getSourceCell() {
+        return this.sourceCell;
+    }
+
+    /**
+     * Computes the whole field from scratch, in O(cells).
+     * @param cell The source cell.
+     * @param obstacles The occupied cells.
+     */
+    private void rebuild(int cell, IOccupancyGrid obstacles) {
+        this.sourceCell = cell;
+        this.blocked.copyFrom(obstacles);
+        this.blocked.clear(cell);
+        Arrays.fill(this.distance, UNREACHABLE);
+        for(int i = 0; i < this.watchedCount; i++){
+            this.isWatched[this.watched[i]] = false;
+        }
+        this.watchedCount = 0;
+        this.distance[cell] = 0;
+        this.enqueue(cell);
+        this.propagate(obstacles);
+    }
+
+    /**
+     * Releases the watched cells that are free now and propagates the distances they shorten.
+     * @param obstacles The occupied cells.
+     */
+    private void releaseFreedCells(IOccupancyGrid obstacles) {
+        for(int i = this.watchedCount - 1; i >= 0; i--){
+            int cell = this.watched[i];
+            if(obstacles.isOccupied(cell)) continue;
+            this.unwatch(i);
+            this.blocked.clear(cell);
+            int best = this.bestNeighborDistance(cell);
+            if(best != UNREACHABLE && best + 1 < this.distance[cell]){
+                this.distance[cell] = best + 1;
+                this.enqueue(cell);
+            }
+        }
+        this.propagate(obstacles);
+    }
+
+    /**
+     * Propagates the distances of the queued cells to their neighbors until nothing changes.
+     * Blocked neighbors are released if they are free now, or watched otherwise.
+     * @param obstacles The occupied cells.
+     */
+    private void propagate(IOccupancyGrid obstacles) {
+        while(this.queueSize > 0){
+            int current = this.dequeue();
+            int next = this.distance[current] + 1;
+            int x = current % this.width;
+            int y = current / this.width;
+            if(x > 0) this.relax(current - 1, next, obstacles);
+            if(x < this.width - 1) this.relax(current + 1, next, obstacles);
+            if(y > 0) this.relax(current - this.width, next, obstacles);
+            if(y < this.height - 1) this.relax(current + this.width, next, obstacles);
+        }
+    }
+
+    /**
+     * Lowers the distance of a neighbor if the new one is shorter.
+     * @param cell The neighbor cell.
+     * @param candidate The distance through the current cell.
+     * @param obstacles The occupied cells.
+     */
+    private void relax(int cell, int candidate, IOccupancyGrid obstacles) {
+        if(this.blocked.isOccupied(cell)){
+            if(obstacles.isOccupied(cell)){
+                this.watch(cell);
+                return;
+            }
+            // Blocked when the field was built, but free now.
+            this.blocked.clear(cell);
+        }
+        if(candidate < this.distance[cell]){
+            this.distance[cell] = candidate;
+            this.enqueue(cell);
+        }
+    }
+
+    /**
+     * Returns the shortest distance among the unblocked neighbors of a cell.
+     * @param cell The cell.
+     * @return The distance, or {@link #UNREACHABLE}.
+     */
+    private int bestNeighborDistance(int cell) {
+        int x = cell % this.width;
+        int y = cell / this.width;
+        int best = UNREACHABLE;
+        if(x > 0) best = Math.min(best, this.distance[cell - 1]);
+        if(x < this.width - 1) best = Math.min(best, this.distance[cell + 1]);
+        if(y > 0) best = Math.min(best, this.distance[cell - this.width]);
+        if(y < this.height - 1) best = Math.min(best, this.distance[cell + this.width]);
+        return best;
+    }
+
+    /**
+     * Adds a blocked cell to the watch list, once.
+     * @param cell The cell.
+     */
+    private void watch(int cell) {
+        if(this.isWatched[cell]) return;
+        this.isWatched[cell] = true;
+        this.watched[this.watchedCount++] = cell;
+    }
+
+    /**
+     * Removes the cell at a slot of the watch list, moving the last one into it.
+     * @param slot The slot.
+     */
+    private void unwatch(int slot) {
+        this.isWatched[this.watched[slot]] = false;
+        this.watched[slot] = this.watched[--this.watchedCount];
+    }
+
+    /**
+     * Adds a cell to the propagation queue if it is not in it already.
+     * @param cell The cell.
+     */
+    private void enqueue(int cell) {
+        if(this.queued[cell]) return;
+        this.queued[cell] = true;
+        int tail = this.queueHead + this.queueSize;
+        this.queue[tail >= this.queue.length ? tail - this.queue.length : tail] = cell;
+        this.queueSize++;
+    }
+
+    /**
+     * Takes the oldest cell of the propagation queue.
+     * @return The cell.
+     */
+    private int dequeue() {
+        int cell = this.queue[this.queueHead];
+        this.queueHead = this.queueHead + 1 == this.queue.length ? 0 : this.queueHead + 1;
+        this.queueSize--;
+        this.queued[cell] = false;
+        return cell;
+    }
+
+    /**
+     * Returns the number of columns of the grid.
+     * @return The width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the number of rows of the grid.
+     * @return The height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+}
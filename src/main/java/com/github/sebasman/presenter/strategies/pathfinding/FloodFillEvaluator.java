@@ -0,0 +1,121 @@
+package com.github.sebasman.presenter.strategies.pathfinding;
+
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+
+import java.util.Arrays;
+
+/**
+ * Measures the free space reachable from a cell with a breadth-first flood fill,
+ * to tell a roomy move from one that leads into a pocket.
+ * The queue is a preallocated int array and the visited marks are invalidated with
+ * a generation stamp, so a fill costs O(reachable cells) and allocates nothing.
+ * An instance is not thread-safe: each strategy must own its own evaluator.
+ */
+public final class FloodFillEvaluator {
+    // Dimensions of the grid
+    private final int width;
+    private final int height;
+    // Search state, indexed by cell
+    private final int[] queue;
+    private final int[] visitStamp;
+    private int generation;
+    // Result of the last fill
+    private boolean tailReachable;
+
+    /**
+     * Builds an evaluator for a grid of the given dimensions.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     */
+    public FloodFillEvaluator(int width, int height) {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("Grid dimensions must be positive.");
+        this.width = width;
+        this.height = height;
+        this.queue = new int[width * height];
+        this.visitStamp = new int[width * height];
+        this.generation = 0;
+    }
+
+    /**
+     * Counts the free cells reachable from a cell, and records whether the tail can be reached.
+     * The tail is never crossed, it only counts as reached when the fill touches it.
+     * @param startCell The cell the fill starts from (usually the cell of a candidate move), counted in the area.
+     * @param obstacles The occupied cells of the grid, with the same dimensions as this evaluator.
+     * @param tailCell The cell of the tail, or -1 to ignore it.
+     * @param limit The area at which the fill stops, because more space makes no difference.
+     * @return The number of reachable cells, at most the limit.
+     */
+    public int fill(int startCell, IOccupancyGrid obstacles, int tailCell, int limit) {
+        this.beginFill();
+        this.tailReachable = startCell == tailCell;
+        this.visitStamp[startCell] = this.generation;
+        int head = 0;
+        int tail = 0;
+        this.queue[tail++] = startCell;
+        while(head < tail && head < limit){
+            int current = this.queue[head++];
+            int x = current % this.width;
+            int y = current / this.width;
+            if(x > 0) tail = this.visit(current - 1, obstacles, tailCell, tail);
+            if(x < this.width - 1) tail = this.visit(current + 1, obstacles, tailCell, tail);
+            if(y > 0) tail = this.visit(current - this.width, obstacles, tailCell, tail);
+            if(y < this.height - 1) tail = this.visit(current + this.width, obstacles, tailCell, tail);
+        }
+        return Math.min(head, limit);
+    }
+
+    /**
+     * Returns whether the last fill touched the tail, i.e. whether the snake can still follow it.
+     * @return true if the tail was reached.
+     */
+    public boolean isTailReachable() {
+        return this.tailReachable;
+    }
+
+    /**
+     * Visits a neighbor, enqueuing it if it is free and has not been visited in this fill.
+     * @param cell The neighbor cell.
+     * @param obstacles The occupied cells of the grid.
+     * @param tailCell The cell of the tail.
+     * @param tail The current end of the queue.
+     * @return The new end of the queue.
+     */
+    private int visit(int cell, IOccupancyGrid obstacles, int tailCell, int tail) {
+        if(this.visitStamp[cell] == this.generation) return tail;
+        this.visitStamp[cell] = this.generation;
+        if(cell == tailCell){
+            this.tailReachable = true;
+            return tail;
+        }
+        if(obstacles.isOccupied(cell)) return tail;
+        this.queue[tail] = cell;
+        return tail + 1;
+    }
+
+    /**
+     * Returns the number of columns of the grid.
+     * @return The width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the number of rows of the grid.
+     * @return The height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Starts a new fill invalidating the previous visited marks in constant time.
+     */
+    private void beginFill() {
+        this.generation++;
+        if(this.generation == Integer.MAX_VALUE){
+            Arrays.fill(this.visitStamp, 0);
+            this.generation = 1;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.sebasman.presenter.strategies.pathfinding;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A closed tour that visits every cell of the grid exactly once, moving between adjacent cells.
+ * The tour is stored as two int tables: the position of each cell in the tour and the
+ * cell at each position, so the successor of a cell and the distance between two cells
+ * along the tour are computed in constant time.
+ * Tours are immutable and built once per board size, then shared by every strategy.
+ * A grid with both dimensions odd has no such tour.
+ */
+public final class HamiltonianCycle {
+    // Tours already built, by board size
+    private static final Map<Long, HamiltonianCycle> CACHE = new ConcurrentHashMap<>();
+    // Dimensions of the grid
+    private final int width;
+    private final int height;
+    // Position of each cell in the tour, and cell at each position
+    private final int[] order;
+    private final int[] cells;
+
+    /**
+     * Builds the tour of a grid.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     */
+    private HamiltonianCycle(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int size = width * height;
+        this.order = new int[size];
+        this.cells = new int[size];
+        if(height % 2 == 0){
+            this.buildRowTour();
+        } else {
+            this.buildColumnTour();
+        }
+        for(int i = 0; i < size; i++){
+            this.order[this.cells[i]] = i;
+        }
+    }
+
+    /**
+     * Returns the tour of a grid, building it the first time the size is requested.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     * @return The shared tour for that size.
+     * @throws IllegalArgumentException if a dimension is smaller than 2 or both are odd.
+     */
+    public static HamiltonianCycle forGrid(int width, int height) {
+        if(width < 2 || height < 2) throw new IllegalArgumentException("Grid dimensions must be at least 2.");
+        if(!exists(width, height)){
+            throw new IllegalArgumentException("A grid with both dimensions odd has no Hamiltonian cycle.");
+        }
+        long key = ((long) width << 32) | height;
+        return CACHE.computeIfAbsent(key, _ -> new HamiltonianCycle(width, height));
+    }
+
+    /**
+     * Checks if a grid has a tour, before asking for it.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     * @return true if both dimensions are at least 2 and one of them is even.
+     */
+    public static boolean exists(int width, int height) {
+        return width >= 2 && height >= 2 && (width % 2 == 0 || height % 2 == 0);
+    }
+
+    /**
+     * Builds the tour of a grid with an even number of rows: the first row from left to right,
+     * the rest of the columns but the first one in a zigzag, and back up through the first column.
+     */
+    private void buildRowTour() {
+        int position = 0;
+        for(int x = 0; x < this.width; x++){
+            this.cells[position++] = this.toIndex(x, 0);
+        }
+        for(int y = 1; y < this.height; y++){
+            // Odd rows go to the left and even rows to the right.
+            for(int i = 1; i < this.width; i++){
+                int x = y % 2 == 1 ? this.width - i : i;
+                this.cells[position++] = this.toIndex(x, y);
+            }
+        }
+        for(int y = this.height - 1; y >= 1; y--){
+            this.cells[position++] = this.toIndex(0, y);
+        }
+    }
+
+    /**
+     * Builds the tour of a grid with an even number of columns,
+     * the transposed version of {@link #buildRowTour()}.
+     */
+    private void buildColumnTour() {
+        int position = 0;
+        for(int y = 0; y < this.height; y++){
+            this.cells[position++] = this.toIndex(0, y);
+        }
+        for(int x = 1; x < this.width; x++){
+            for(int i = 1; i < this.height; i++){
+                int y = x % 2 == 1 ? this.height - i : i;
+                this.cells[position++] = this.toIndex(x, y);
+            }
+        }
+        for(int x = this.width - 1; x >= 1; x--){
+            this.cells[position++] = this.toIndex(x, 0);
+        }
+    }
+
+    /**
+     * Returns the cell that follows another one in the tour.
+     * @param cell The cell index.
+     * @return The next cell index.
+     */
+    public int next(int cell) {
+        int position = this.order[cell] + 1;
+        return this.cells[position == this.cells.length ? 0 : position];
+    }
+
+    /**
+     * Returns the cell that precedes another one in the tour, i.e. its next cell in the reversed tour.
+     * @param cell The cell index.
+     * @return The previous cell index.
+     */
+    public int previous(int cell) {
+        int position = this.order[cell];
+        return this.cells[position == 0 ? this.cells.length - 1 : position - 1];
+    }
+
+    /**
+     * Returns the number of steps needed to go from one cell to another following the tour.
+     * @param from The source cell.
+     * @param to The destination cell.
+     * @return A distance between 0 and size - 1.
+     */
+    public int distance(int from, int to) {
+        int distance = this.order[to] - this.order[from];
+        return distance < 0 ? distance + this.cells.length : distance;
+    }
+
+    /**
+     * Returns the position of a cell in the tour.
+     * @param cell The cell index.
+     * @return The position, between 0 and size - 1.
+     */
+    public int orderOf(int cell) {
+        return this.order[cell];
+    }
+
+    /**
+     * Returns the number of cells of the tour.
+     * @return width * height.
+     */
+    public int size() {
+        return this.cells.length;
+    }
+
+    /**
+     * Returns the number of columns of the grid.
+     * @return The width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the number of rows of the grid.
+     * @return The height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Converts a coordinate to its cell index.
+     * @param x Column.
+     * @param y Row.
+     * @return The index of the cell.
+     */
+    private int toIndex(int x, int y) {
+        return y * this.width + x;
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.sebasman.presenter.strategies.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of integer items (grid cell indices) with a real decrease-key operation.
+ * Each item is ordered by a primary key and, on ties, by a secondary key.
+ * All storage is preallocated: clearing the heap bumps a generation stamp instead of
+ * wiping the position table, so reusing it between searches costs O(1).
+ */
+public final class IndexedMinHeap {
+    // Heap array holding the items
+    private final int[] heap;
+    // Position of each item inside the heap array (valid only if stamp matches the generation)
+    private final int[] positions;
+    private final int[] stamps;
+    // Ordering keys of each item
+    private final float[] primaryKeys;
+    private final float[] secondaryKeys;
+    private int size;
+    private int generation;
+
+    /**
+     * Builds a heap able to hold every item in the range [0, capacity).
+     * @param capacity The number of distinct items (e.g., the number of cells of the grid).
+     */
+    public IndexedMinHeap(int capacity) {
+        if(capacity <= 0) throw new IllegalArgumentException("Capacity must be positive.");
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.stamps = new int[capacity];
+        this.primaryKeys = new float[capacity];
+        this.secondaryKeys = new float[capacity];
+        this.size = 0;
+        this.generation = 1;
+    }
+
+    /**
+     * Empties the heap in constant time.
+     */
+    public void clear() {
+        this.size = 0;
+        this.generation++;
+        if(this.generation == Integer.MAX_VALUE){
+            // Once in a very long while, reset the stamps so that old ones can never collide.
+            Arrays.fill(this.stamps, 0);
+            this.generation = 1;
+        }
+    }
+
+    /**
+     * Checks if the heap has no items.
+     * @return true if it is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks if an item is currently queued.
+     * @param item The item to check.
+     * @return true if the item is inside the heap.
+     */
+    public boolean contains(int item) {
+        return this.stamps[item] == this.generation && this.positions[item] >= 0;
+    }
+
+    /**
+     * Inserts a new item or, if it is already queued, lowers its keys.
+     * @param item The item to insert or update.
+     * @param primaryKey The main ordering key.
+     * @param secondaryKey The tie-breaking key.
+     */
+    public void insertOrDecrease(int item, float primaryKey, float secondaryKey) {
+        if(this.contains(item)){
+            this.primaryKeys[item] = primaryKey;
+            this.secondaryKeys[item] = secondaryKey;
+            this.siftUp(this.positions[item]);
+            return;
+        }
+        this.primaryKeys[item] = primaryKey;
+        this.secondaryKeys[item] = secondaryKey;
+        this.stamps[item] = this.generation;
+        this.heap[this.size] = item;
+        this.positions[item] = this.size;
+        this.size++;
+        this.siftUp(this.size - 1);
+    }
+
+    /**
+     * Removes and returns the item with the smallest keys.
+     * @return The item at the top of the heap.
+     * @throws IllegalStateException if the heap is empty.
+     */
+    public int poll() {
+        if(this.size == 0) throw new IllegalStateException("The heap is empty.");
+        int top = this.heap[0];
+        this.size--;
+        if(this.size > 0){
+            int last = this.heap[this.size];
+            this.heap[0] = last;
+            this.positions[last] = 0;
+            this.siftDown(0);
+        }
+        this.positions[top] = -1;
+        return top;
+    }
+
+    /**
+     * Moves the item at the given slot towards the root until the heap order is restored.
+     * @param slot The index in the heap array.
+     */
+    private void siftUp(int slot) {
+        int item = this.heap[slot];
+        while(slot > 0){
+            int parentSlot = (slot - 1) >>> 1;
+            int parent = this.heap[parentSlot];
+            if(!this.less(item, parent)) break;
+            this.heap[slot] = parent;
+            this.positions[parent] = slot;
+            slot = parentSlot;
+        }
+        this.heap[slot] = item;
+        this.positions[item] = slot;
+    }
+
+    /**
+     * Moves the item at the given slot towards the leaves until the heap order is restored.
+     * @param slot The index in the heap array.
+     */
+    private void siftDown(int slot) {
+        int item = this.heap[slot];
+        int half = this.size >>> 1;
+        while(slot < half){
+            int childSlot = (slot << 1) + 1;
+            int child = this.heap[childSlot];
+            int rightSlot = childSlot + 1;
+            if(rightSlot < this.size && this.less(this.heap[rightSlot], child)){
+                childSlot = rightSlot;
+                child = this.heap[rightSlot];
+            }
+            if(!this.less(child, item)) break;
+            this.heap[slot] = child;
+            this.positions[child] = slot;
+            slot = childSlot;
+        }
+        this.heap[slot] = item;
+        this.positions[item] = slot;
+    }
+
+    /**
+     * Compares two items using the primary key and then the secondary key.
+     * @param a First item.
+     * @param b Second item.
+     * @return true if 'a' must be served before 'b'.
+     */
+    private boolean less(int a, int b) {
+        float primaryA = this.primaryKeys[a];
+        float primaryB = this.primaryKeys[b];
+        if(primaryA != primaryB) return primaryA < primaryB;
+        return this.secondaryKeys[a] < this.secondaryKeys[b];
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.sebasman.presenter.strategies.pathfinding;
+
+import com.github.sebasman.contracts.model.ISnakeState;
+import com.github.sebasman.contracts.vo.Position;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Time-aware obstacle table for the space-time search: stores, for each cell, the first
+ * tick at which it is no longer covered by the body of the snake.
+ * Body segment i (0 being the head) of a snake of length L leaves its cell after L - i ticks,
+ * one more if the snake is about to grow, so the cells near the tail open up first.
+ * A cell that was never marked is free from tick 0. The table is reset with a generation
+ * stamp instead of being cleared, so loading a body costs O(length) and allocates nothing.
+ */
+public final class TimedOccupancy {
+    // Dimensions of the grid
+    private final int width;
+    private final int height;
+    // First tick at which each cell is free, valid only if its stamp is the current generation
+    private final int[] freeAt;
+    private final int[] stamps;
+    private int generation;
+
+    /**
+     * Builds an empty table for a grid of the given dimensions.
+     * @param width Number of columns of the grid.
+     * @param height Number of rows of the grid.
+     */
+    public TimedOccupancy(int width, int height) {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("Grid dimensions must be positive.");
+        this.width = width;
+        this.height = height;
+        this.freeAt = new int[width * height];
+        this.stamps = new int[width * height];
+        this.generation = 0;
+    }
+
+    /**
+     * Marks every cell as free in constant time.
+     */
+    public void clear() {
+        this.generation++;
+        if(this.generation == Integer.MAX_VALUE){
+            Arrays.fill(this.stamps, 0);
+            this.generation = 1;
+        }
+    }
+
+    /**
+     * Blocks a cell until the given tick. If the cell was already blocked,
+     * the latest of both ticks is kept.
+     * @param cell The cell index, or -1 for a segment outside the board (ignored).
+     * @param tick The first tick at which the cell is free.
+     */
+    public void occupyUntil(int cell, int tick) {
+        if(cell < 0) return;
+        if(this.stamps[cell] != this.generation){
+            this.stamps[cell] = this.generation;
+            this.freeAt[cell] = tick;
+        } else if(tick > this.freeAt[cell]){
+            this.freeAt[cell] = tick;
+        }
+    }
+
+    /**
+     * Returns the first tick at which a cell is free.
+     * @param cell The cell index.
+     * @return The tick, 0 if the cell is not covered by the body.
+     */
+    public int freeAt(int cell) {
+        return this.stamps[cell] == this.generation ? this.freeAt[cell] : 0;
+    }
+
+    /**
+     * Checks if a cell can be entered at a given tick.
+     * @param cell The cell index.
+     * @param tick The tick of arrival, counted from the moment the table describes.
+     * @return true if the body has already left the cell.
+     */
+    public boolean isFreeAt(int cell, int tick) {
+        return tick >= this.freeAt(cell);
+    }
+
+    /**
+     * Loads the current body of a snake.
+     * @param snake The snake, before its next move.
+     */
+    public void loadFrom(ISnakeState snake) {
+        this.clear();
+        int length = snake.getLength();
+        int growth = snake.isGrowing() ? 1 : 0;
+        for(int i = 0; i < length; i++){
+            this.occupyUntil(snake.getSegmentCell(i), length - i + growth);
+        }
+    }
+
+    /**
+     * Loads the body the snake will have after following a path whose last step eats the food,
+     * without simulating the moves: the newest segments are the steps of the path,
+     * followed by the oldest segments of the current body. The snake grows on the next tick.
+     * @param snake The snake, before following the path.
+     * @param path The path to be followed, start excluded.
+     * @return The cell of the future tail, or -1 if it is outside the grid.
+     */
+    public int loadAfterPath(ISnakeState snake, List<Position> path) {
+        this.clear();
+        // A growth still pending when the path starts is applied during the path.
+        int length = snake.getLength() + (snake.isGrowing() ? 1 : 0);
+        int steps = path.size();
+        int cell = -1;
+        for(int j = 0; j < length; j++){
+            if(j < steps){
+                Position step = path.get(steps - 1 - j);
+                cell = this.toIndex(step);
+            } else {
+                cell = snake.getSegmentCell(j - steps);
+            }
+            this.occupyUntil(cell, length - j + 1);
+        }
+        return cell;
+    }
+
+    /**
+     * Converts a position to its cell index.
+     * @param position The position.
+     * @return The index of the cell, or -1 if it is outside the grid.
+     */
+    private int toIndex(Position position) {
+        int x = position.x();
+        int y = position.y();
+        if(x < 0 || x >= this.width || y < 0 || y >= this.height) return -1;
+        return y * this.width + x;
+    }
+
+    /**
+     * Returns the number of columns of the grid.
+     * @return The width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the number of rows of the grid.
+     * @return The height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.sebasman.presenter.strategies.planning;
+
+import com.github.sebasman.contracts.model.ISnakeState;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs a {@link FoodPathPlanner} on a background thread, so the search for the next move
+ * overlaps with the rendering of the frames between two ticks.
+ * A plan is requested as soon as a tick has been applied, on a snapshot of the snake,
+ * and collected by the next tick with a deadline. At most one plan is in flight: while the
+ * worker is busy with an older plan, new requests are ignored and the caller falls back.
+ * Each planner has its own worker thread, started on the first request and stopped by
+ * {@link #shutdown()}; an idle worker also ends by itself after a few seconds.
+ * Requests and collections must come from the same thread (the game loop).
+ */
+public final class AsyncPlanner {
+    /**
+     * The result of a plan.
+     * @param tick The tick the plan was requested for.
+     * @param direction The chosen direction.
+     * @param path The route to display, or null.
+     */
+    public record Plan(long tick, Direction direction, List<Position> path) {}
+
+    // Time after which an idle worker thread ends
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 5;
+    // Daemon worker thread of this planner, so it never keeps the application alive; null until needed
+    private ExecutorService worker;
+    // Planner and snapshot used only by the worker while a plan is in flight
+    private final FoodPathPlanner planner;
+    private final SnakeSnapshot snapshot;
+    private final PlannerMetrics metrics;
+    // Plan in flight, and the tick it was requested for
+    private Future<Plan> pending;
+    private long pendingTick;
+
+    /**
+     * Builds an asynchronous planner.
+     * @param metrics The counters where latencies and misses are recorded.
+     */
+    public AsyncPlanner(PlannerMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "Metrics cannot be null");
+        this.planner = new FoodPathPlanner();
+        this.snapshot = new SnakeSnapshot();
+        this.pendingTick = -1;
+    }
+
+    /**
+     * Starts planning the move of a tick on a copy of the snake.
+     * Ignored if the worker is still busy with a previous plan.
+     * @param snake The snake, already moved by the previous tick.
+     * @param food The position of the food.
+     * @param spaceTime true to use the space-time planner.
+     * @param tick The tick the plan is for.
+     */
+    public void request(ISnakeState snake, Position food, boolean spaceTime, long tick) {
+        if(this.pending != null && !this.pending.isDone()) return;
+        // The worker is idle, so the snapshot can be overwritten; the submission publishes it.
+        this.snapshot.copyFrom(snake);
+        this.pendingTick = tick;
+        this.pending = this.getWorker().submit(() -> {
+            long start = System.nanoTime();
+            this.planner.setSpaceTime(spaceTime);
+            Direction direction = this.planner.plan(this.snapshot, food);
+            this.metrics.recordPlan(System.nanoTime() - start);
+            return new Plan(tick, direction, this.planner.getLastPath());
+        });
+    }
+
+    /**
+     * Stops the worker thread, discarding the plan in flight, if any.
+     * The planner can still be used: a later request starts a new worker.
+     */
+    public void shutdown() {
+        if(this.worker != null){
+            this.worker.shutdownNow();
+            this.worker = null;
+        }
+        this.pending = null;
+        this.pendingTick = -1;
+    }
+
+    /**
+     * Returns the worker thread of this planner, creating it on first use.
+     * @return The executor that runs the plans.
+     */
+    private ExecutorService getWorker() {
+        if(this.worker == null){
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                    WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                Thread thread = new Thread(task, "ai-planner");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            this.worker = executor;
+        }
+        return this.worker;
+    }
+
+    /**
+     * Checks if a plan was requested for a tick and has not been collected yet.
+     * @param tick The tick.
+     * @return true if {@link #await(long, long)} can return a plan for it.
+     */
+    public boolean isRequested(long tick) {
+        return this.pending != null && this.pendingTick == tick;
+    }
+
+    /**
+     * Collects the plan of a tick, waiting for it at most the given time.
+     * A plan that misses the deadline keeps running, but its result will be discarded.
+     * @param tick The tick whose plan is needed.
+     * @param timeoutNanos The maximum time to wait.
+     * @return The plan, or null if it was not requested or is not ready in time.
+     */
+    public Plan await(long tick, long timeoutNanos) {
+        if(!this.isRequested(tick)) return null;
+        try {
+            Plan plan = this.pending.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            this.metrics.recordAwait(false);
+            this.pending = null;
+            return plan;
+        } catch (TimeoutException e) {
+            this.metrics.recordAwait(true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            this.pending = null;
+            throw new IllegalStateException("The AI planner failed.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.github.sebasman.presenter.strategies.planning;
+
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+import com.github.sebasman.contracts.model.ISnakeState;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.contracts.vo.PositionTable;
+import com.github.sebasman.model.grid.OccupancyGrid;
+import com.github.sebasman.presenter.strategies.pathfinding.AStarPathfinder;
+import com.github.sebasman.presenter.strategies.pathfinding.DistanceField;
+import com.github.sebasman.presenter.strategies.pathfinding.FloodFillEvaluator;
+import com.github.sebasman.presenter.strategies.pathfinding.TimedOccupancy;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Decision logic of the food-following AI: finds a route to the food with A*,
+ * takes it only if the snake can still reach its tail after eating, and otherwise
+ * follows the tail or makes the roomiest panic move.
+ * Two planners are available: the classic one treats the whole body as static obstacles,
+ * while the space-time one knows that the body retracts as the snake moves.
+ * It only reads the snake, so it can plan on a live snake or on a {@link SnakeSnapshot}.
+ * An instance owns its search buffers and is not thread-safe: each thread needs its own planner.
+ */
+public final class FoodPathPlanner {
+    // Cached copy of the directions, since Direction.values() allocates a new array on each call
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // The distance field is used once the body covers 1 / FIELD_COVERAGE of the board: on an
+    // emptier board the Manhattan distance is already close to exact, and the field would cost
+    // a whole-board search each time the food moves
+    private static final int FIELD_COVERAGE = 8;
+    // --- Planner options ---
+    private boolean spaceTime = false;
+    // --- Reusable search engine, sized for the board of the snake ---
+    private AStarPathfinder pathfinder;
+    private OccupancyGrid scratchObstacles;
+    private TimedOccupancy timedObstacles;
+    private FloodFillEvaluator floodFill;
+    // Distance to the food, kept up to date across ticks while the food stays put
+    private DistanceField foodField;
+    // Route followed by the last plan, to be displayed
+    private List<Position> lastPath;
+    // Safe route to the food being followed, and the step of it to take next
+    private List<Position> cachedPath;
+    private int cachedStep;
+    // Food and snake length the cached route was proven safe for
+    private Position cachedFood;
+    private int cachedLength;
+
+    /**
+     * Decides the next move of the snake.
+     * A safe route to the food is searched only once: while the snake follows it, the food
+     * stays put and the body evolves as predicted, its proof of safety still holds, so the
+     * next steps are only checked against the occupancy.
+     * @param snake The snake to move, before its next tick.
+     * @param food The position of the food.
+     * @return The direction to take.
+     */
+    public Direction plan(ISnakeState snake, Position food) {
+        Direction cachedDirection = this.followCachedPath(snake, food);
+        if(cachedDirection != null) return cachedDirection;
+        // Environmental Data Collection
+        Position head = snake.getHead();
+        Position tail = snake.getTail();
+        IOccupancyGrid bodyObstacles = snake.getOccupancy();
+        Direction currentDirection = snake.getDirection();
+        this.ensureSearchBuffers(bodyObstacles);
+        this.lastPath = null;
+
+        // --- Calculation of Potential Pathways ---
+
+        List<Position> pathToFood;
+        List<Position> pathToTail;
+        if(this.spaceTime){
+            // Each body cell is passable once the tail has left it.
+            this.timedObstacles.loadFrom(snake);
+            pathToFood = this.pathfinder.findTimedPath(head, food, currentDirection, this.timedObstacles);
+            pathToTail = this.pathfinder.findTimedPath(head, tail, currentDirection, this.timedObstacles);
+        } else {
+            // Plan A: Find your way to the food, guided by the exact distance to it on a crowded board.
+            if(food != null && bodyObstacles.cardinality() * FIELD_COVERAGE >= bodyObstacles.getWidth() * bodyObstacles.getHeight()){
+                this.foodField.update(food, bodyObstacles);
+                pathToFood = this.pathfinder.findPath(head, food, currentDirection, bodyObstacles, this.foodField);
+            } else {
+                pathToFood = this.pathfinder.findPath(head, food, currentDirection, bodyObstacles);
+            }
+            // Plan B: Find your way to the tail to survive (the tail will have moved, so it is not an obstacle).
+            this.scratchObstacles.copyFrom(bodyObstacles);
+            this.scratchObstacles.clear(tail.x(), tail.y());
+            pathToTail = this.pathfinder.findPath(head, tail, currentDirection, this.scratchObstacles);
+        }
+
+        // --- Intelligent and Hierarchical Decision Logic ---
+
+        // Priority 1: If there is a path to food, and it is safe, it is the best option.
+        boolean isFoodSafe = this.isPathValid(pathToFood)
+                && (this.spaceTime ? this.isTimedPathSafe(snake, pathToFood) : this.isPathSafe(snake, pathToFood));
+        if(isFoodSafe){
+            this.lastPath = pathToFood;
+            this.cacheFoodPath(snake, food, pathToFood);
+            return this.getDirectionFromPath(head, pathToFood);
+        }
+        // Priority 2: If the path to food is "unsafe", but we have NO other choice (no path to the queue),
+        // we take the risk. It's better than standing still.
+        if(this.isPathValid(pathToTail)){
+            this.lastPath = pathToTail;
+            // Any move that gets as close to the tail will do: the one with more room is preferred.
+            return this.findRoomiestMove(snake, bodyObstacles, tail, this.getDirectionFromPath(head, pathToTail));
+        }
+        // Priority 3 (Last Resort): If none of the previous plans worked,
+        // means we are trapped or in a very difficult situation. We make a panic move
+        // to the safest adjacent square to avoid standing still.
+        return this.findRoomiestMove(snake, bodyObstacles, null, null);
+    }
+
+    /**
+     * Decides a move without searching for any route: the adjacent cell with the most room.
+     * It costs a few flood fills, so it is used when a full plan is not available in time.
+     * @param snake The snake to move, before its next tick.
+     * @return The roomiest direction.
+     */
+    public Direction findPanicMove(ISnakeState snake) {
+        IOccupancyGrid bodyObstacles = snake.getOccupancy();
+        this.ensureSearchBuffers(bodyObstacles);
+        this.lastPath = null;
+        this.invalidateCache();
+        return this.findRoomiestMove(snake, bodyObstacles, null, null);
+    }
+
+    /**
+     * Returns the route followed by the last decision, to be displayed.
+     * @return The path (start excluded), or null if the last move was a panic move.
+     */
+    public List<Position> getLastPath() {
+        return this.lastPath;
+    }
+
+    /**
+     * Keeps a safe route to the food to be followed in the next ticks.
+     * @param snake The snake, before taking the first step of the route.
+     * @param food The position of the food the route leads to.
+     * @param pathToFood The route (start excluded).
+     */
+    private void cacheFoodPath(ISnakeState snake, Position food, List<Position> pathToFood) {
+        this.cachedPath = pathToFood;
+        this.cachedStep = 1;
+        this.cachedFood = food;
+        // A pending growth is applied on the first step, then the length holds until the food is eaten.
+        this.cachedLength = snake.getLength() + (snake.isGrowing() ? 1 : 0);
+    }
+
+    /**
+     * Takes the next step of the cached route if it is still valid: the food has not moved,
+     * the snake took the previous step and has the predicted length, and the next cell is free.
+     * Otherwise, the cache is dropped.
+     * @param snake The snake to move.
+     * @param food The current position of the food.
+     * @return The direction of the next step, or null if the route must be planned again.
+     */
+    private Direction followCachedPath(ISnakeState snake, Position food) {
+        if(this.cachedPath == null) return null;
+        if(this.cachedStep >= this.cachedPath.size()
+                || !this.cachedFood.equals(food)
+                || snake.getLength() != this.cachedLength
+                || snake.isGrowing()){
+            this.invalidateCache();
+            return null;
+        }
+        Position head = snake.getHead();
+        Position next = this.cachedPath.get(this.cachedStep);
+        if(!head.equals(this.cachedPath.get(this.cachedStep - 1)) || this.isBlocked(snake, next)){
+            this.invalidateCache();
+            return null;
+        }
+        this.lastPath = this.cachedPath.subList(this.cachedStep, this.cachedPath.size());
+        this.cachedStep++;
+        return this.getDirectionFromPositions(head, next);
+    }
+
+    /**
+     * Checks if the body occupies a cell on the next tick: every segment but the tail,
+     * which moves away unless the snake is growing.
+     * @param snake The snake.
+     * @param position The cell to check.
+     * @return true if the snake cannot move into the cell.
+     */
+    private boolean isBlocked(ISnakeState snake, Position position) {
+        IOccupancyGrid occupancy = snake.getOccupancy();
+        if(!occupancy.isInside(position.x(), position.y())) return true;
+        int cell = position.y() * occupancy.getWidth() + position.x();
+        if(!occupancy.isOccupied(cell)) return false;
+        return snake.isGrowing() || cell != snake.getSegmentCell(snake.getLength() - 1);
+    }
+
+    /**
+     * Forgets the cached route, so the next decision is planned from scratch.
+     */
+    public void invalidateCache() {
+        this.cachedPath = null;
+        this.cachedFood = null;
+    }
+
+    /**
+     * Checks if a path is safe by simulating the movement and verifying
+     * if there is still an escape route to the queue.
+     * @param snake A copy of the snake to be moved
+     * @param pathToFood The route to follow and verify
+     * @return True if the route is safe. False otherwise.
+     */
+    private boolean isPathSafe(ISnakeState snake, List<Position> pathToFood) {
+        // Creates a virtual copy of the snake's body
+        List<Position> virtualSnakeBody = new LinkedList<>();
+        for(int i = 0; i < snake.getLength(); i++){
+            virtualSnakeBody.add(snake.getSegment(i));
+        }
+        // Simulates the movement along the path to the food.
+        for(Position nextMove : pathToFood){
+            virtualSnakeBody.addFirst(nextMove);
+            virtualSnakeBody.removeLast();
+        }
+        // After eating the food in the last position, the snake grows.
+        virtualSnakeBody.addLast(virtualSnakeBody.getLast());
+        // The new head will be in the position of the food.
+        Position futureHead = virtualSnakeBody.getFirst();
+        Position futureTail = virtualSnakeBody.getLast();
+        this.scratchObstacles.clearAll();
+        for(Position segment : virtualSnakeBody){
+            this.scratchObstacles.set(segment.x(), segment.y());
+        }
+        this.scratchObstacles.clear(futureHead.x(), futureHead.y());
+        this.scratchObstacles.clear(futureTail.x(), futureTail.y());
+        // Determine future direction
+        Direction futureDirection = this.getDirectionFromPositions(snake.getHead(), pathToFood.getFirst());
+        // Checks if from the future position there is a path to the future queue.
+        List<Position> scapePath = this.pathfinder.findPath(futureHead, futureTail, futureDirection, this.scratchObstacles);
+        return this.isPathValid(scapePath);
+    }
+
+    /**
+     * Checks if a path is safe in space-time: loads the body the snake will have after eating,
+     * with the tick at which each of its cells will be free, and verifies that there is
+     * still an escape route to the future tail. No move is simulated.
+     * @param snake The snake before following the path.
+     * @param pathToFood The route to follow and verify.
+     * @return True if the route is safe. False otherwise.
+     */
+    private boolean isTimedPathSafe(ISnakeState snake, List<Position> pathToFood) {
+        int tailCell = this.timedObstacles.loadAfterPath(snake, pathToFood);
+        if(tailCell < 0) return false;
+        Position futureHead = pathToFood.getLast();
+        Position futureTail = PositionTable.forGrid(this.timedObstacles.getWidth(), this.timedObstacles.getHeight()).ofCell(tailCell);
+        // The direction of the snake when it arrives at the food
+        Position beforeFood = pathToFood.size() > 1 ? pathToFood.get(pathToFood.size() - 2) : snake.getHead();
+        Direction futureDirection = this.getDirectionFromPositions(beforeFood, futureHead);
+        List<Position> scapePath = this.pathfinder.findTimedPath(futureHead, futureTail, futureDirection, this.timedObstacles);
+        return this.isPathValid(scapePath);
+    }
+
+    /**
+     * Chooses among the possible moves the one that leaves the most room, measured by a flood fill:
+     * a move from which the tail can still be reached comes first, then the one with the largest
+     * reachable area. Used for panic moves and to break ties between moves that make the same progress.
+     * @param snake The snake to move.
+     * @param obstacles The occupied cells of the board.
+     * @param target If not null, only the moves that get as close to it as the preferred one are considered.
+     * @param preferred The move chosen by the planner, kept on ties; null for a panic move.
+     * @return The roomiest direction, or the current one if every move is blocked.
+     */
+    private Direction findRoomiestMove(ISnakeState snake, IOccupancyGrid obstacles, Position target, Direction preferred){
+        Position head = snake.getHead();
+        Direction currentDirection = snake.getDirection();
+        int width = obstacles.getWidth();
+        int cells = width * obstacles.getHeight();
+        // The tail cell is free on the next move, unless the snake is growing.
+        int tailCell = snake.getSegmentCell(snake.getLength() - 1);
+        int targetDistance = target == null ? -1 : this.distanceAfterMove(head, preferred, target);
+        Direction best = null;
+        int bestArea = -1;
+        boolean bestReachesTail = false;
+        for(Direction dir : DIRECTIONS){
+            if(dir == currentDirection.opposite()) continue;
+            int nx = head.x() + dir.getDx();
+            int ny = head.y() + dir.getDy();
+            if(!obstacles.isInside(nx, ny)) continue;
+            int cell = ny * width + nx;
+            boolean isMovingTail = cell == tailCell && !snake.isGrowing();
+            if(obstacles.isOccupied(cell) && !isMovingTail) continue;
+            if(target != null && this.distanceAfterMove(head, dir, target) != targetDistance) continue;
+            int area = this.floodFill.fill(cell, obstacles, tailCell, cells);
+            boolean reachesTail = this.floodFill.isTailReachable();
+            boolean isBetter = best == null
+                    || (reachesTail && !bestReachesTail)
+                    || (reachesTail == bestReachesTail && (area > bestArea || (area == bestArea && dir == preferred)));
+            if(isBetter){
+                best = dir;
+                bestArea = area;
+                bestReachesTail = reachesTail;
+            }
+        }
+        if(best != null) return best;
+        // Every move is blocked: keep the planned or current direction.
+        return preferred != null ? preferred : currentDirection;
+    }
+
+    /**
+     * Manhattan distance from the cell reached with a move to a target.
+     * @param head The position of the head.
+     * @param direction The move.
+     * @param target The target position.
+     * @return The distance after the move.
+     */
+    private int distanceAfterMove(Position head, Direction direction, Position target) {
+        return Math.abs(head.x() + direction.getDx() - target.x()) + Math.abs(head.y() + direction.getDy() - target.y());
+    }
+
+    /**
+     * (Re)creates the search engine and the scratch grid when the board dimensions change.
+     * @param board The occupancy grid of the current board.
+     */
+    private void ensureSearchBuffers(IOccupancyGrid board) {
+        if(this.scratchObstacles == null
+                || this.scratchObstacles.getWidth() != board.getWidth()
+                || this.scratchObstacles.getHeight() != board.getHeight()){
+            this.pathfinder = new AStarPathfinder(board.getWidth(), board.getHeight());
+            this.scratchObstacles = new OccupancyGrid(board.getWidth(), board.getHeight());
+            this.timedObstacles = new TimedOccupancy(board.getWidth(), board.getHeight());
+            this.floodFill = new FloodFillEvaluator(board.getWidth(), board.getHeight());
+            this.foodField = new DistanceField(board.getWidth(), board.getHeight());
+        }
+    }
+
+    /**
+     * Gets the next direction the snake will follow.
+     * @param head The position of the snake's current head.
+     * @param path The route the snake should follow
+     * @return The next direction of the snake
+     */
+    private Direction getDirectionFromPath(Position head, List<Position> path) {
+        return this.getDirectionFromPositions(head, path.getFirst());
+    }
+
+    /**
+     * Utility method to determine the direction between two adjacent positions.
+     * @param from The source position.
+     * @param to The destination position.
+     * @return The direction of movement.
+     */
+    private Direction getDirectionFromPositions(Position from, Position to) {
+        if (to.x() > from.x()) return Direction.RIGHT;
+        if (to.x() < from.x()) return Direction.LEFT;
+        if (to.y() > from.y()) return Direction.DOWN;
+        return Direction.UP;
+    }
+
+    private boolean isPathValid(List<Position> path){
+        return path != null && !path.isEmpty();
+    }
+
+    /**
+     * Selects the planner
+     * @param spaceTime true to plan with the body retracting over time, false for static obstacles
+     */
+    public void setSpaceTime(boolean spaceTime) {
+        if(this.spaceTime != spaceTime) this.invalidateCache();
+        this.spaceTime = spaceTime;
+    }
+}
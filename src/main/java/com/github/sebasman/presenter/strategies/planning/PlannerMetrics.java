@@ -0,0 +1,118 @@
+package com.github.sebasman.presenter.strategies.planning;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of an AI planner: how long the plans take, how many were not ready
+ * at the deadline and how many moves had to fall back to a cheap safe move.
+ * Latencies are recorded by the thread that plans and the counters can be read
+ * from any thread, so every value is atomic.
+ */
+public final class PlannerMetrics {
+    // Completed plans and their latency
+    private final AtomicLong plans = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    // Plans awaited by the game loop and those that missed the deadline
+    private final AtomicLong awaited = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // Moves decided by the fallback instead of the planner
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    /**
+     * Records a completed plan.
+     * @param latencyNanos The time the plan took, in nanoseconds.
+     */
+    public void recordPlan(long latencyNanos) {
+        this.plans.incrementAndGet();
+        this.totalLatencyNanos.addAndGet(latencyNanos);
+        this.maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    /**
+     * Records that the game loop waited for a plan.
+     * @param missed true if the plan was not ready at the deadline.
+     */
+    public void recordAwait(boolean missed) {
+        this.awaited.incrementAndGet();
+        if(missed) this.misses.incrementAndGet();
+    }
+
+    /**
+     * Records a move decided by the fallback.
+     */
+    public void recordFallback() {
+        this.fallbacks.incrementAndGet();
+    }
+
+    /**
+     * Resets every counter.
+     */
+    public void reset() {
+        this.plans.set(0);
+        this.totalLatencyNanos.set(0);
+        this.maxLatencyNanos.set(0);
+        this.awaited.set(0);
+        this.misses.set(0);
+        this.fallbacks.set(0);
+    }
+
+    // --- Getters ---
+
+    /**
+     * Returns the number of completed plans.
+     * @return The plan counter.
+     */
+    public long getPlans() {
+        return this.plans.get();
+    }
+
+    /**
+     * Returns the mean time of a plan.
+     * @return The mean latency in milliseconds, 0 if no plan was completed.
+     */
+    public double getMeanLatencyMillis() {
+        long count = this.plans.get();
+        return count == 0 ? 0 : this.totalLatencyNanos.get() / 1e6 / count;
+    }
+
+    /**
+     * Returns the longest time a plan took.
+     * @return The maximum latency in milliseconds.
+     */
+    public double getMaxLatencyMillis() {
+        return this.maxLatencyNanos.get() / 1e6;
+    }
+
+    /**
+     * Returns the number of plans that were not ready at their deadline.
+     * @return The miss counter.
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Returns the fraction of the awaited plans that missed their deadline.
+     * @return A value between 0 and 1.
+     */
+    public double getMissRate() {
+        long count = this.awaited.get();
+        return count == 0 ? 0 : (double) this.misses.get() / count;
+    }
+
+    /**
+     * Returns the number of moves decided by the fallback.
+     * @return The fallback counter.
+     */
+    public long getFallbacks() {
+        return this.fallbacks.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("plans=%d, latency(avg=%.3f ms, max=%.3f ms), misses=%d (%.1f%%), fallbacks=%d",
+                this.getPlans(), this.getMeanLatencyMillis(), this.getMaxLatencyMillis(),
+                this.getMisses(), this.getMissRate() * 100, this.getFallbacks());
+    }
+}
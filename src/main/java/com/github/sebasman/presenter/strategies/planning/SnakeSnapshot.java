@@ -0,0 +1,105 @@
+package com.github.sebasman.presenter.strategies.planning;
+
+import com.github.sebasman.contracts.model.IOccupancyGrid;
+import com.github.sebasman.contracts.model.ISnakeState;
+import com.github.sebasman.contracts.vo.Direction;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.model.grid.OccupancyGrid;
+
+import java.util.Objects;
+
+/**
+ * Frozen copy of the state of a snake that a planner needs (segments, cells, direction,
+ * growth and occupancy), so a plan can be computed on another thread while the game moves on.
+ * The buffers are reused from one copy to the next and only grow with the snake.
+ */
+public final class SnakeSnapshot implements ISnakeState {
+    // Segments of the body, from the head to the tail, with their cell indices
+    private Position[] segments;
+    private int[] cells;
+    private int length;
+    // Movement state
+    private Direction direction;
+    private boolean growing;
+    // Copy of the cells covered by the body
+    private OccupancyGrid occupancy;
+
+    /**
+     * Builds an empty snapshot, to be filled with {@link #copyFrom(ISnakeState)}.
+     */
+    public SnakeSnapshot() {
+        this.segments = new Position[16];
+        this.cells = new int[16];
+        this.length = 0;
+    }
+
+    /**
+     * Copies the current state of a snake, in O(length + cells / 64).
+     * @param snake The snake to copy. It must not move during the copy.
+     */
+    public void copyFrom(ISnakeState snake) {
+        Objects.requireNonNull(snake, "Snake cannot be null");
+        IOccupancyGrid source = snake.getOccupancy();
+        if(this.occupancy == null
+                || this.occupancy.getWidth() != source.getWidth()
+                || this.occupancy.getHeight() != source.getHeight()){
+            this.occupancy = new OccupancyGrid(source.getWidth(), source.getHeight());
+        }
+        this.occupancy.copyFrom(source);
+        int newLength = snake.getLength();
+        if(newLength > this.segments.length){
+            int capacity = Integer.highestOneBit(newLength) << 1;
+            this.segments = new Position[capacity];
+            this.cells = new int[capacity];
+        }
+        for(int i = 0; i < newLength; i++){
+            this.segments[i] = snake.getSegment(i);
+            this.cells[i] = snake.getSegmentCell(i);
+        }
+        this.length = newLength;
+        this.direction = snake.getDirection();
+        this.growing = snake.isGrowing();
+    }
+
+    @Override
+    public boolean isGrowing() {
+        return this.growing;
+    }
+
+    @Override
+    public Position getHead() {
+        return this.segments[0];
+    }
+
+    @Override
+    public Position getTail() {
+        return this.segments[this.length - 1];
+    }
+
+    @Override
+    public int getLength() {
+        return this.length;
+    }
+
+    @Override
+    public Position getSegment(int index) {
+        Objects.checkIndex(index, this.length);
+        return this.segments[index];
+    }
+
+    @Override
+    public int getSegmentCell(int index) {
+        Objects.checkIndex(index, this.length);
+        return this.cells[index];
+    }
+
+    @Override
+    public IOccupancyGrid getOccupancy() {
+        return this.occupancy;
+    }
+
+    @Override
+    public Direction getDirection() {
+        return this.direction;
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.sebasman.presenter.training;
+
+/**
+ * Summary of a generation of the genetic trainer, one point of the fitness curve.
+ * @param generation The number of the generation, starting at 0.
+ * @param bestFitness The fitness of the best genome of the generation.
+ * @param meanFitness The mean fitness of the population.
+ * @param best The best genome of the generation.
+ * @param elapsedNanos The time taken to evaluate the generation.
+ */
+public record GenerationReport(int generation, double bestFitness, double meanFitness, Genome best, long elapsedNanos) {
+    @Override
+    public String toString() {
+        return String.format("generation %d: best=%.3f, mean=%.3f, %.2f s",
+                this.generation, this.bestFitness, this.meanFitness, this.elapsedNanos / 1e9);
+    }
+}
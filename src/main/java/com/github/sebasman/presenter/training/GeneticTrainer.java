@@ -0,0 +1,282 @@
+package com.github.sebasman.presenter.training;
+
+import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.presenter.IBatchPolicy;
+import com.github.sebasman.contracts.presenter.IControlStrategy;
+import com.github.sebasman.model.GameSession;
+import com.github.sebasman.presenter.engine.GameEngine;
+import com.github.sebasman.presenter.engine.LockstepRunner;
+import com.github.sebasman.presenter.engine.SimulationResult;
+import com.github.sebasman.presenter.engine.TickOutcome;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Headless genetic algorithm that evolves the parameters of a control strategy.
+ * Every generation, each genome is turned into a strategy by the policy factory and plays
+ * the same seeded games as the rest of the population (so the comparison is fair), with the
+ * genomes spread over the cores by a fork/join pool. The next generation keeps the elite and
+ * fills the rest with children of tournament-selected parents, built by uniform crossover
+ * and gaussian mutation.
+ * The fitness of a game is its score plus the fraction of the tick limit survived, so eating
+ * always matters more than surviving. Runs are reproducible for a given seed.
+ */
+public final class GeneticTrainer {
+    // Number of genomes below which an evaluation task is no longer split
+    private static final int GENOMES_PER_TASK = 4;
+    // Range of the genes of the initial population
+    private static final double INITIAL_GENE_RANGE = 1.0;
+
+    private final int genomeLength;
+    private final Function<float[], ? extends IControlStrategy> policyFactory;
+    private final TrainerConfig config;
+    private final SplittableRandom random;
+    private Genome[] population;
+    private Genome best;
+    private int generation;
+
+    /**
+     * Builds a trainer with a random initial population.
+     * @param genomeLength The number of parameters of the policy.
+     * @param policyFactory Builds a new strategy from the genes of a genome; it must not keep the array.
+     * @param config The parameters of the run.
+     * @param seed The seed of the population, the operators and the games.
+     */
+    public GeneticTrainer(int genomeLength, Function<float[], ? extends IControlStrategy> policyFactory,
+                          TrainerConfig config, long seed) {
+        if(genomeLength <= 0) throw new IllegalArgumentException("The genome length must be positive.");
+        this.genomeLength = genomeLength;
+        this.policyFactory = Objects.requireNonNull(policyFactory, "Policy factory cannot be null");
+        this.config = Objects.requireNonNull(config, "Configuration cannot be null");
+        this.random = new SplittableRandom(seed);
+        this.population = new Genome[config.populationSize()];
+        for(int i = 0; i < this.population.length; i++){
+            float[] genes = new float[genomeLength];
+            for(int j = 0; j < genomeLength; j++){
+                genes[j] = (float) this.random.nextDouble(-INITIAL_GENE_RANGE, INITIAL_GENE_RANGE);
+            }
+            this.population[i] = new Genome(genes);
+        }
+        this.generation = 0;
+    }
+
+    /**
+     * Replaces the first genomes of the population with known ones, e.g. hand-tuned weights
+     * or the result of a previous run, so the search starts from them.
+     * @param genomes The genomes to insert, at most the size of the population.
+     */
+    public void seedPopulation(Genome... genomes) {
+        if(genomes.length > this.population.length) throw new IllegalArgumentException("Too many seed genomes.");
+        for(int i = 0; i < genomes.length; i++){
+            if(genomes[i].length() != this.genomeLength) throw new IllegalArgumentException("Seed genome of the wrong length.");
+            this.population[i] = Genome.of(genomes[i].genes());
+        }
+    }
+
+    /**
+     * Evolves the population for a number of generations.
+     * @param generations The number of generations to run, at least one.
+     * @param listener Receives the report of each generation as soon as it is evaluated.
+     * @return The best genome found so far.
+     * @throws IllegalArgumentException if the number of generations is not positive.
+     */
+    public Genome train(int generations, Consumer<GenerationReport> listener) {
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        if(generations <= 0) throw new IllegalArgumentException("At least one generation must be run.");
+        try(ForkJoinPool pool = new ForkJoinPool(this.config.parallelism())){
+            for(int i = 0; i < generations; i++){
+                listener.accept(this.runGeneration(pool));
+            }
+        }
+        return this.best;
+    }
+
+    /**
+     * Evaluates the current population, records its best genome and breeds the next one.
+     * @param pool The pool that plays the games.
+     * @return The report of the generation.
+     */
+    private GenerationReport runGeneration(ForkJoinPool pool) {
+        long start = System.nanoTime();
+        // Every genome of the generation plays the same games.
+        long[] seeds = this.random.longs(this.config.gamesPerGenome()).toArray();
+        pool.invoke(new EvaluationTask(seeds, 0, this.population.length));
+        Arrays.sort(this.population, Comparator.comparingDouble(Genome::getFitness).reversed());
+        Genome generationBest = this.population[0];
+        double total = 0;
+        for(Genome genome : this.population){
+            total += genome.getFitness();
+        }
+        if(this.best == null || generationBest.getFitness() >= this.best.getFitness()){
+            this.best = Genome.of(generationBest.genes());
+            this.best.setFitness(generationBest.getFitness());
+        }
+        GenerationReport report = new GenerationReport(this.generation++, generationBest.getFitness(),
+                total / this.population.length, this.best, System.nanoTime() - start);
+        this.population = this.breed();
+        return report;
+    }
+
+    /**
+     * Measures the fitness of a genome over a set of games.
+     * @param genome The genome.
+     * @param seeds The seeds of the games.
+     * @return The mean fitness of the games.
+     */
+    private double evaluate(Genome genome, long[] seeds) {
+        IControlStrategy strategy = this.policyFactory.apply(genome.genes());
+        if(strategy instanceof IBatchPolicy batchPolicy) return this.evaluateLockstep(batchPolicy, seeds);
+        double total = 0;
+        for(int i = 0; i < seeds.length; i++){
+            // Each game gets a fresh strategy, in case it keeps state between ticks.
+            if(i > 0) strategy = this.policyFactory.apply(genome.genes());
+            IGameSession session = new GameSession(this.config.gridSpec(), seeds[i]);
+            GameEngine engine = new GameEngine(session, strategy);
+            long lastMeal = 0;
+            while(!engine.isGameOver() && engine.getTicks() < this.config.maxTicksPerGame()
+                    && engine.getTicks() - lastMeal < this.config.starvationTicks()){
+                TickOutcome outcome = engine.tick();
+                if(outcome == TickOutcome.WON_BOARD) break;
+                if(outcome.isFoodEaten()) lastMeal = engine.getTicks();
+            }
+            total += session.getScore() + (double) engine.getTicks() / (this.config.maxTicksPerGame() + 1);
+        }
+        return total / seeds.length;
+    }
+
+    /**
+     * Measures the fitness of a batched policy, playing all its games in lockstep.
+     * @param policy The policy built from the genome.
+     * @param seeds The seeds of the games.
+     * @return The mean fitness of the games.
+     */
+    private double evaluateLockstep(IBatchPolicy policy, long[] seeds) {
+        LockstepRunner runner = new LockstepRunner(policy, this.config.gridSpec(), seeds,
+                this.config.maxTicksPerGame(), this.config.starvationTicks());
+        runner.run();
+        double total = 0;
+        for(int i = 0; i < seeds.length; i++){
+            SimulationResult result = runner.getResult(i);
+            total += result.score() + (double) result.ticks() / (this.config.maxTicksPerGame() + 1);
+        }
+        return total / seeds.length;
+    }
+
+    /**
+     * Builds the next generation from the current one, already sorted by fitness.
+     * @return The new population.
+     */
+    private Genome[] breed() {
+        Genome[] next = new Genome[this.population.length];
+        int elite = this.config.eliteCount();
+        System.arraycopy(this.population, 0, next, 0, elite);
+        for(int i = elite; i < next.length; i++){
+            Genome mother = this.selectParent();
+            Genome father = this.selectParent();
+            next[i] = new Genome(this.mutate(this.crossover(mother.genes(), father.genes())));
+        }
+        return next;
+    }
+
+    /**
+     * Tournament selection: draws some genomes at random and keeps the fittest.
+     * @return The selected parent.
+     */
+    private Genome selectParent() {
+        Genome winner = null;
+        for(int i = 0; i < this.config.tournamentSize(); i++){
+            Genome candidate = this.population[this.random.nextInt(this.population.length)];
+            if(winner == null || candidate.getFitness() > winner.getFitness()) winner = candidate;
+        }
+        return winner;
+    }
+
+    /**
+     * Uniform crossover: each gene of the child is taken from one of the parents at random.
+     * @param mother The genes of the first parent.
+     * @param father The genes of the second parent.
+     * @return The genes of the child.
+     */
+    private float[] crossover(float[] mother, float[] father) {
+        float[] child = new float[this.genomeLength];
+        for(int i = 0; i < child.length; i++){
+            child[i] = this.random.nextBoolean() ? mother[i] : father[i];
+        }
+        return child;
+    }
+
+    /**
+     * Gaussian mutation: adds noise to some genes of a child, in place.
+     * @param genes The genes of the child.
+     * @return The same array.
+     */
+    private float[] mutate(float[] genes) {
+        for(int i = 0; i < genes.length; i++){
+            if(this.random.nextDouble() < this.config.mutationRate()){
+                genes[i] += (float) (this.random.nextGaussian() * this.config.mutationSigma());
+            }
+        }
+        return genes;
+    }
+
+    /**
+     * Returns the best genome found so far.
+     * @return The best genome, or null before the first generation.
+     */
+    public Genome getBest() {
+        return this.best;
+    }
+
+    /**
+     * Returns the number of generations evaluated so far.
+     * @return The generation counter.
+     */
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Fork/join task that evaluates a range of the population, splitting it in halves
+     * until it is small enough.
+     */
+    private final class EvaluationTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private final long[] seeds;
+        private final int from;
+        private final int to;
+
+        /**
+         * Builds a task for the genomes [from, to).
+         * @param seeds The seeds of the games of the generation.
+         * @param from The first genome, inclusive.
+         * @param to The last genome, exclusive.
+         */
+        EvaluationTask(long[] seeds, int from, int to) {
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(this.to - this.from <= GENOMES_PER_TASK){
+                for(int i = this.from; i < this.to; i++){
+                    Genome genome = population[i];
+                    genome.setFitness(evaluate(genome, this.seeds));
+                }
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new EvaluationTask(this.seeds, this.from, middle), new EvaluationTask(this.seeds, middle, this.to));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.sebasman.presenter.training;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An individual of the genetic trainer: the parameters of a policy and the fitness
+ * measured for them. The genes are never modified once the genome is built.
+ */
+public final class Genome {
+    private final float[] genes;
+    private double fitness;
+
+    /**
+     * Builds a genome that has not been evaluated yet.
+     * @param genes The parameters of the policy; the array is owned by the genome.
+     */
+    Genome(float[] genes) {
+        this.genes = Objects.requireNonNull(genes, "Genes cannot be null");
+        this.fitness = Double.NaN;
+    }
+
+    /**
+     * Builds a genome from a copy of some parameters, e.g. to seed a population with known weights.
+     * @param genes The parameters of the policy.
+     * @return The new genome.
+     */
+    public static Genome of(float[] genes) {
+        return new Genome(genes.clone());
+    }
+
+    /**
+     * Returns the genes without copying them, for the trainer.
+     * @return The internal array, which must not be modified.
+     */
+    float[] genes() {
+        return this.genes;
+    }
+
+    /**
+     * Returns a copy of the genes.
+     * @return The parameters of the policy.
+     */
+    public float[] getGenes() {
+        return this.genes.clone();
+    }
+
+    /**
+     * Returns the number of genes.
+     * @return The length of the genome.
+     */
+    public int length() {
+        return this.genes.length;
+    }
+
+    /**
+     * Returns the fitness measured in the last evaluation.
+     * @return The fitness, or NaN if the genome has not been evaluated.
+     */
+    public double getFitness() {
+        return this.fitness;
+    }
+
+    /**
+     * Sets the measured fitness.
+     * @param fitness The fitness.
+     */
+    void setFitness(double fitness) {
+        this.fitness = fitness;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("fitness=%.3f, genes=%s", this.fitness, Arrays.toString(this.genes));
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.sebasman.presenter.training;
+
+import com.github.sebasman.contracts.vo.GridSpec;
+import com.github.sebasman.model.config.ModelConfig;
+
+import java.util.Objects;
+
+/**
+ * Parameters of a genetic training run.
+ * @param populationSize Number of genomes of each generation.
+ * @param eliteCount Best genomes copied unchanged into the next generation.
+ * @param tournamentSize Genomes drawn to pick each parent; the fittest of them wins.
+ * @param mutationRate Probability of mutating each gene of a child.
+ * @param mutationSigma Standard deviation of the gaussian noise added by a mutation.
+ * @param gamesPerGenome Seeded games played to measure the fitness of a genome.
+ * @param maxTicksPerGame Tick limit of each game.
+ * @param starvationTicks Ticks without eating after which a game is stopped, so looping genomes are not rewarded.
+ * @param gridSpec Board of the games.
+ * @param parallelism Number of worker threads that evaluate the genomes.
+ */
+public record TrainerConfig(int populationSize, int eliteCount, int tournamentSize,
+                            double mutationRate, double mutationSigma,
+                            int gamesPerGenome, long maxTicksPerGame, long starvationTicks,
+                            GridSpec gridSpec, int parallelism) {
+    /**
+     * Validates the parameters.
+     */
+    public TrainerConfig {
+        Objects.requireNonNull(gridSpec, "Grid specification cannot be null");
+        if(populationSize < 2) throw new IllegalArgumentException("The population needs at least two genomes.");
+        if(eliteCount < 0 || eliteCount >= populationSize) throw new IllegalArgumentException("The elite must be smaller than the population.");
+        if(tournamentSize < 1) throw new IllegalArgumentException("The tournament size must be positive.");
+        if(mutationRate < 0 || mutationRate > 1) throw new IllegalArgumentException("The mutation rate must be between 0 and 1.");
+        if(mutationSigma < 0) throw new IllegalArgumentException("The mutation sigma cannot be negative.");
+        if(gamesPerGenome <= 0) throw new IllegalArgumentException("Each genome must play at least one game.");
+        if(maxTicksPerGame <= 0 || starvationTicks <= 0) throw new IllegalArgumentException("The tick limits must be positive.");
+        if(parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive.");
+    }
+
+    /**
+     * Returns a configuration suited to the default board: a thousand genomes,
+     * each one measured over four games, using every core of the machine.
+     * @return The default configuration.
+     */
+    public static TrainerConfig defaults() {
+        GridSpec grid = ModelConfig.DEFAULT_GRID;
+        return new TrainerConfig(1000, 20, 5, 0.2, 0.3,
+                4, 4L * grid.cellCount(), grid.cellCount(),
+                grid, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns a copy of this configuration with another population size.
+     * @param populationSize The number of genomes of each generation.
+     * @return The new configuration.
+     */
+    public TrainerConfig withPopulationSize(int populationSize) {
+        return new TrainerConfig(populationSize, Math.min(this.eliteCount, populationSize - 1), this.tournamentSize,
+                this.mutationRate, this.mutationSigma, this.gamesPerGenome, this.maxTicksPerGame,
+                this.starvationTicks, this.gridSpec, this.parallelism);
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.sebasman.view;
 
+import com.github.sebasman.contracts.diagnostics.IProfiler;
+import com.github.sebasman.contracts.diagnostics.ProfilePhase;
 import com.github.sebasman.contracts.events.EventManager;
 import com.github.sebasman.contracts.events.types.GameSessionEndedEvent;
 import com.github.sebasman.contracts.model.IGameSession;
@@ -31,13 +33,17 @@ public class GameView extends PApplet implements IGameContext {
     private IGameSession session;
     // The stack of game states, allowing for state management
     private final Stack<IState> states;
+    // Times the phases of the game loop
+    private final IProfiler profiler;
 
     /**
      * Constructor for the Game class.
      * @param initialState The initial state of the game to start with.
+     * @param profiler The profiler of the game loop.
      */
-    public GameView(IState initialState) {
+    public GameView(IState initialState, IProfiler profiler) {
         this.profile = new UserProfile();
+        this.profiler = Objects.requireNonNull(profiler, "Profiler cannot be null.");
         this.states = new Stack<>();
         this.pushState(Objects.requireNonNull(initialState, "Initial state cannot be null."));
     }
@@ -51,7 +57,7 @@ public class GameView extends PApplet implements IGameContext {
     @Override
     public void setup() {
         // Set the frame rate
-        super.frameRate(60);
+        super.frameRate(ViewConfig.FRAME_RATE);
         // Set the alignment for the game
         super.textAlign(CENTER, CENTER);
         // Load assets such as images and fonts
@@ -72,9 +78,14 @@ public class GameView extends PApplet implements IGameContext {
             );
         }
         // In each frame, we first update all the logic.
+        long start = this.profiler.start();
         currentState.update(this);
+        this.profiler.stop(ProfilePhase.UPDATE, start);
         // Then, we draw the result.
+        start = this.profiler.start();
         currentState.draw(this);
+        this.profiler.stop(ProfilePhase.DRAW, start);
+        this.profiler.endFrame();
     }
 
     @Override
@@ -147,6 +158,11 @@ public class GameView extends PApplet implements IGameContext {
         return profile;
     }
 
+    @Override
+    public IProfiler getProfiler() {
+        return this.profiler;
+    }
+
     @Override
     public IGameSession getSession() {
         return session;
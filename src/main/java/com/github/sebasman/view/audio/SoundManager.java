@@ -7,6 +7,8 @@ import com.github.sebasman.contracts.events.types.SnakeDiedEvent;
 import processing.core.PApplet;
 import processing.sound.SoundFile;
 
+import java.util.function.Consumer;
+
 /**
  * Manages the playback of all sounds and sound effects in the game.
  * Subscribes to EventManager events to react in a decoupled way
@@ -19,6 +21,9 @@ public final class SoundManager {
     private static SoundFile clickSound;
     private static SoundFile eatSound;
     private static SoundFile gameOverSound;
+    // Listeners of the game events, attached to the bus of the session being played
+    private static final Consumer<FoodEatenEvent> FOOD_EATEN_LISTENER = _ -> onFoodEaten();
+    private static final Consumer<SnakeDiedEvent> SNAKE_DIED_LISTENER = _ -> onSnakeDied();
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -51,14 +56,29 @@ public final class SoundManager {
     }
 
     /**
-     * Subscribes the sound playback methods to the global events of the game.
+     * Subscribes the sound playback methods to the application events.
      * Must be called only once from the application factory.
      */
     private static void subscribeToEvents() {
-        EventManager eventManager = EventManager.getInstance();
-        eventManager.subscribe(ButtonPressedEvent.class, _ -> onButtonPressed());
-        eventManager.subscribe(FoodEatenEvent.class, _ -> onFoodEaten());
-        eventManager.subscribe(SnakeDiedEvent.class, _ -> onSnakeDied());
+        EventManager.getInstance().subscribe(ButtonPressedEvent.class, _ -> onButtonPressed());
+    }
+
+    /**
+     * Subscribes the sound playback methods to the events of a game session.
+     * @param sessionBus The event bus of the session being played.
+     */
+    public static void attachTo(EventManager sessionBus) {
+        sessionBus.subscribe(FoodEatenEvent.class, FOOD_EATEN_LISTENER);
+        sessionBus.subscribe(SnakeDiedEvent.class, SNAKE_DIED_LISTENER);
+    }
+
+    /**
+     * Unsubscribes the sound playback methods from the events of a game session.
+     * @param sessionBus The event bus the sounds were attached to.
+     */
+    public static void detachFrom(EventManager sessionBus) {
+        sessionBus.unsubscribe(FoodEatenEvent.class, FOOD_EATEN_LISTENER);
+        sessionBus.unsubscribe(SnakeDiedEvent.class, SNAKE_DIED_LISTENER);
     }
 
     /**
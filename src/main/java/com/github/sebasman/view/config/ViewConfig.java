@@ -1,13 +1,26 @@
 package com.github.sebasman.view.config;
 
+import com.github.sebasman.contracts.vo.GridSpec;
 import com.github.sebasman.model.config.ModelConfig;
 
+import java.awt.event.KeyEvent;
+
 /**
  * Contains all the configuration constants related to the view,
  * such as window dimensions, UI components, and padding.
  * May depend on ModelConfig to calculate their values.
  */
 public final class ViewConfig {
+    // --- Frame rate of the window ---
+    public static final int FRAME_RATE = 60;
+    // While playing, the frame rate follows the tick rate between these bounds
+    public static final int MIN_FRAME_RATE = 30;
+    public static final int FRAMES_PER_TICK = 3;
+
+    // --- Keys ---
+    // Shows or hides the performance overlay while playing or paused
+    public static final int PERFORMANCE_OVERLAY_KEY = KeyEvent.VK_F3;
+
     // --- Padding and frame configuration ---
     public static final int GAME_AREA_PADDING = 15;
     public static final int TOP_BAR_HEIGHT = (int) (ModelConfig.BOX_SIZE * 1.5);
@@ -23,12 +36,27 @@ public final class ViewConfig {
     public static final int SIDE_PANEL_WIDTH = BUTTON_WIDTH + (GAME_AREA_PADDING * 2);
 
     // --- Window Configuration (Calculated) ---
-    private static final int BOARD_PIXEL_WIDTH = ModelConfig.GRID_WIDTH * ModelConfig.BOX_SIZE;
-    private static final int BOARD_PIXEL_HEIGHT = ModelConfig.GRID_HEIGHT * ModelConfig.BOX_SIZE;
+    // Area of the window reserved for the board, whatever the size of the board of the session
+    public static final int BOARD_PIXEL_WIDTH = ModelConfig.GRID_WIDTH * ModelConfig.BOX_SIZE;
+    public static final int BOARD_PIXEL_HEIGHT = ModelConfig.GRID_HEIGHT * ModelConfig.BOX_SIZE;
 
     public static final int WINDOW_WIDTH = BOARD_PIXEL_WIDTH + (GAME_AREA_PADDING * 4) + SIDE_PANEL_WIDTH;
     public static final int WINDOW_HEIGHT = BOARD_PIXEL_HEIGHT + (GAME_AREA_PADDING * 3) + TOP_BAR_HEIGHT;
 
     // --- Positioning Constants ---
     public static final int CENTER_GAME_X = (BOARD_PIXEL_WIDTH + GAME_AREA_PADDING * 2) / 2;
+
+    /**
+     * Private builder to prevent instantiation.
+     */
+    private ViewConfig() {}
+
+    /**
+     * Calculates the size in pixels of a cell so that a whole board fits in the board area.
+     * @param gridSpec The dimensions of the board.
+     * @return The side of a cell, BOX_SIZE for the default board.
+     */
+    public static float cellSize(GridSpec gridSpec) {
+        return Math.min((float) BOARD_PIXEL_WIDTH / gridSpec.width(), (float) BOARD_PIXEL_HEIGHT / gridSpec.height());
+    }
 }
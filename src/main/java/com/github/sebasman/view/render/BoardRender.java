@@ -1,5 +1,6 @@
 package com.github.sebasman.view.render;
 
+import com.github.sebasman.contracts.vo.GridSpec;
 import com.github.sebasman.model.config.ModelConfig;
 import com.github.sebasman.view.config.ColorPalette;
 import com.github.sebasman.view.config.ViewConfig;
@@ -7,13 +8,17 @@ import processing.core.PApplet;
 import processing.core.PGraphics;
 
 /**
- * Specific renderer for the board. Knows how to draw a Board object
+ * Specific renderer for the board. Knows how to draw a Board object.
+ * The checkerboard is pre-rendered for the grid of the session and scaled to fit the board area,
+ * and it is only rendered again when a session with other dimensions is drawn.
  */
 public class BoardRender {
     // Singleton instance of BoardRender
     private static final BoardRender INSTANCE = new BoardRender();
     // PGraphics buffer for pre-rendering board
     private PGraphics buffer;
+    // Grid currently pre-rendered in the buffer
+    private GridSpec renderedGrid;
     // Flag to check if the UI has been initialized
     private boolean isInitialized = false;
 
@@ -42,40 +47,47 @@ public class BoardRender {
         // Set the flag to true to prevent re-initialization
         this.isInitialized = true;
         // Initialize the PGraphics buffer.
-        this.buffer = context.createGraphics(ModelConfig.GRID_WIDTH*ModelConfig.BOX_SIZE, ModelConfig.GRID_HEIGHT*ModelConfig.BOX_SIZE);
+        this.buffer = context.createGraphics(ViewConfig.BOARD_PIXEL_WIDTH, ViewConfig.BOARD_PIXEL_HEIGHT);
         // Load the elements
-        preRenderElements();
+        preRenderElements(ModelConfig.DEFAULT_GRID);
     }
 
     /**
      * Pre-rendering help method
+     * @param gridSpec The dimensions of the board to be drawn
      */
-    private void preRenderElements(){
+    private void preRenderElements(GridSpec gridSpec){
+        float cellSize = ViewConfig.cellSize(gridSpec);
         buffer.beginDraw();
+        buffer.clear();
         buffer.noStroke();
-        for(int y = 0; y < ModelConfig.GRID_HEIGHT; y++) {
-            for(int x = 0; x < ModelConfig.GRID_WIDTH; x++) {
+        for(int y = 0; y < gridSpec.height(); y++) {
+            for(int x = 0; x < gridSpec.width(); x++) {
                 if((x + y) % 2 == 0) {
                     buffer.fill(ColorPalette.BOARD_LIGHT); // Light color for even squares
                 } else {
                     buffer.fill(ColorPalette.BOARD_DARK); // Dark color for odd squares
                 }
-                buffer.rect(x * ModelConfig.BOX_SIZE, y * ModelConfig.BOX_SIZE,
-                        ModelConfig.BOX_SIZE, ModelConfig.BOX_SIZE);
+                buffer.rect(x * cellSize, y * cellSize, cellSize, cellSize);
             }
         }
         buffer.endDraw();
+        this.renderedGrid = gridSpec;
     }
 
     /**
      * Draws the object instance
      * @param context The context in which the drawing is to be made
+     * @param gridSpec The dimensions of the board of the session
      */
-    public void draw(PApplet context) {
+    public void draw(PApplet context, GridSpec gridSpec) {
         if (!isInitialized) {
             System.err.println("The board is not initialized, skipping render...");
             return; // UI is not initialized, skip drawing
         }
+        if (!gridSpec.equals(this.renderedGrid)) {
+            preRenderElements(gridSpec);
+        }
         // Draw the pre-rendered buffer onto the main game canvas
         context.image(buffer, ViewConfig.GAME_AREA_PADDING, ViewConfig.GAME_AREA_PADDING*2 + ViewConfig.TOP_BAR_HEIGHT);
     }
@@ -1,7 +1,13 @@
 package com.github.sebasman.view.render;
 
+import com.github.sebasman.contracts.diagnostics.IProfiler;
+import com.github.sebasman.contracts.diagnostics.ProfilePhase;
 import com.github.sebasman.contracts.model.IGameSession;
+import com.github.sebasman.contracts.model.ISnakeView;
 import com.github.sebasman.contracts.view.IGameContext;
+import com.github.sebasman.contracts.vo.GridSpec;
+import com.github.sebasman.contracts.vo.Position;
+import com.github.sebasman.model.config.ModelConfig;
 import com.github.sebasman.view.config.ViewConfig;
 import processing.core.PApplet;
 
@@ -39,16 +45,43 @@ public final class GameWorldRenderer {
      * @param interpolation The factor for smooth snake movement.
      */
     public void render(IGameContext game, Float interpolation) {
-        PApplet renderer = game.getRenderer();
         IGameSession session = game.getSession();
+        if(session == null){
+            this.render(game.getRenderer(), ModelConfig.DEFAULT_GRID, null, null, interpolation, game.getProfiler());
+        } else {
+            this.render(game.getRenderer(), session.getGridSpec(), session.getSnake(),
+                    session.getFood().getPosition(), interpolation, game.getProfiler());
+        }
+    }
+
+    /**
+     * Draws the game world from a view of its entities, e.g. a frame published by the simulation thread.
+     * @param renderer The PApplet context for drawing operations.
+     * @param gridSpec The dimensions of the board.
+     * @param snake The snake to draw, or null to draw an empty board.
+     * @param food The position of the food, or null if there is none.
+     * @param interpolation The factor for smooth snake movement.
+     * @param profiler The profiler that times each renderer.
+     */
+    public void render(PApplet renderer, GridSpec gridSpec, ISnakeView snake, Position food, Float interpolation, IProfiler profiler) {
+        // The cells are scaled so that the whole board fits in the board area.
+        float cellSize = ViewConfig.cellSize(gridSpec);
         // Draw the game board, snake, and food
-        BoardRender.getInstance().draw(renderer);
+        long start = profiler.start();
+        BoardRender.getInstance().draw(renderer, gridSpec);
+        profiler.stop(ProfilePhase.BOARD, start);
         renderer.pushMatrix();
         renderer.translate(ViewConfig.GAME_AREA_PADDING, ViewConfig.GAME_AREA_PADDING*2 + ViewConfig.TOP_BAR_HEIGHT);
-        if(session != null){
-            PathRenderer.getInstance().draw(renderer);
-            snakeRender.draw(renderer, interpolation, session.getSnake());
-            foodRender.draw(renderer, session.getFood());
+        if(snake != null){
+            start = profiler.start();
+            PathRenderer.getInstance().draw(renderer, cellSize);
+            profiler.stop(ProfilePhase.PATH, start);
+            start = profiler.start();
+            snakeRender.draw(renderer, interpolation, snake, cellSize);
+            profiler.stop(ProfilePhase.SNAKE, start);
+            start = profiler.start();
+            foodRender.draw(renderer, food, cellSize);
+            profiler.stop(ProfilePhase.FOOD, start);
         }
         renderer.popMatrix();
     }
@@ -1,7 +1,6 @@
 package com.github.sebasman.view.render;
 
 import com.github.sebasman.contracts.presenter.IHUDController;
-import com.github.sebasman.model.config.ModelConfig;
 import com.github.sebasman.view.assets.Assets;
 import com.github.sebasman.view.config.ColorPalette;
 import com.github.sebasman.view.config.ViewConfig;
@@ -59,7 +58,7 @@ public final class HUDRenderer {
         context.textFont(Assets.titleFont);
         context.textAlign(PConstants.CENTER, PConstants.CENTER);
         context.textSize(ViewConfig.TOP_BAR_HEIGHT*0.35f);
-        context.text("VIPER VISION", (ViewConfig.GAME_AREA_PADDING/2f) + ((ModelConfig.BOX_SIZE * ModelConfig.GRID_WIDTH)/2f),
+        context.text("VIPER VISION", (ViewConfig.GAME_AREA_PADDING/2f) + (ViewConfig.BOARD_PIXEL_WIDTH/2f),
                 ViewConfig.GAME_AREA_PADDING + ViewConfig.TOP_BAR_HEIGHT / 2f);
 
         context.popStyle();
@@ -4,37 +4,56 @@ import com.github.sebasman.contracts.events.EventManager;
 import com.github.sebasman.contracts.events.types.AiPathUpdatedEvent;
 import com.github.sebasman.contracts.events.types.GameSessionEndedEvent;
 import com.github.sebasman.contracts.vo.Position;
-import com.github.sebasman.model.config.ModelConfig;
 import processing.core.PApplet;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A dedicated renderer to draw the path calculated by the AI for debugging purposes.
- * Subscribes to the AiPathUpdatedEvent event to receive the path to be drawn.
+ * Subscribes to the AiPathUpdatedEvent event of the session being played to receive the path to be drawn.
  */
 public final class PathRenderer {
     // The singleton instance
     private static final PathRenderer INSTANCE = new PathRenderer();
 
-    private List<Position> currentPath;
+    // Written by whichever thread runs the AI, read by the render thread
+    private volatile List<Position> currentPath;
+    // Reference to the listener, to detach it from the session bus
+    private final Consumer<AiPathUpdatedEvent> pathUpdateListener;
 
     /**
      * Private builder who subscribes to the necessary events.
      */
     private PathRenderer() {
         this.currentPath = Collections.emptyList();
+        this.pathUpdateListener = this::onPathUpdate;
         this.suscribeToEvents();
     }
 
     /**
-     * Subscribes to events important to the class
+     * Subscribes to the application events important to the class
      */
     private void suscribeToEvents(){
-        EventManager eventManager = EventManager.getInstance();
-        eventManager.subscribe(AiPathUpdatedEvent.class, this::onPathUpdate);
-        eventManager.subscribe(GameSessionEndedEvent.class, _ -> this.clearPath());
+        EventManager.getInstance().subscribe(GameSessionEndedEvent.class, _ -> this.clearPath());
+    }
+
+    /**
+     * Starts listening to the paths published on the event bus of a session.
+     * @param sessionBus The event bus of the session being played.
+     */
+    public void attachTo(EventManager sessionBus){
+        sessionBus.subscribe(AiPathUpdatedEvent.class, this.pathUpdateListener);
+    }
+
+    /**
+     * Stops listening to the paths of a session and forgets its last path.
+     * @param sessionBus The event bus the renderer was attached to.
+     */
+    public void detachFrom(EventManager sessionBus){
+        sessionBus.unsubscribe(AiPathUpdatedEvent.class, this.pathUpdateListener);
+        this.clearPath();
     }
 
     /**
@@ -46,6 +65,7 @@ public final class PathRenderer {
 
     /**
      * The method that handles the event and updates the internal path.
+     * With a simulation thread it runs on that thread: the path is only stored, and read when drawing.
      * @param event The event containing the new path.
      */
     private void onPathUpdate(AiPathUpdatedEvent event) {
@@ -63,19 +83,21 @@ public final class PathRenderer {
     /**
      * Draw the path stored in the game canvas.
      * @param context The PApplet context for drawing operations.
+     * @param cellSize The size in pixels of a cell of the board.
      */
-    public void draw(PApplet context){
-        if(this.currentPath == null || this.currentPath.isEmpty()) return;
+    public void draw(PApplet context, float cellSize){
+        List<Position> path = this.currentPath;
+        if(path == null || path.isEmpty()) return;
 
         context.pushStyle();
         context.noFill();
         context.stroke(255, 255, 0, 150);
-        context.strokeWeight(5);
+        context.strokeWeight(Math.max(1, cellSize / 8f));
 
         context.beginShape();
-        for(Position pos: currentPath){
-            float x = pos.x() * ModelConfig.BOX_SIZE + ModelConfig.BOX_SIZE / 2f;
-            float y = pos.y() * ModelConfig.BOX_SIZE + ModelConfig.BOX_SIZE / 2f;
+        for(Position pos: path){
+            float x = pos.x() * cellSize + cellSize / 2f;
+            float y = pos.y() * cellSize + cellSize / 2f;
             context.vertex(x, y);
         }
         context.endShape();
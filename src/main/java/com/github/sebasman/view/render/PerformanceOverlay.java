@@ -0,0 +1,115 @@
+package com.github.sebasman.view.render;
+
+import com.github.sebasman.contracts.presenter.IPerformanceReport;
+import com.github.sebasman.model.config.ModelConfig;
+import com.github.sebasman.view.assets.Assets;
+import com.github.sebasman.view.config.ColorPalette;
+import com.github.sebasman.view.config.ViewConfig;
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PGraphics;
+
+import java.util.List;
+
+/**
+ * Singleton Renderer responsible for drawing the performance overlay over the board.
+ * The text of the report is rendered into a buffer only when the report changes,
+ * a few times per second, and the buffer is simply copied on every other frame,
+ * so that drawing the overlay barely affects the numbers it shows.
+ */
+public final class PerformanceOverlay {
+    // Singleton instance of PerformanceOverlay
+    private static final PerformanceOverlay INSTANCE = new PerformanceOverlay();
+    // Size of the text and of the margins of the overlay
+    private static final float TEXT_SIZE = ModelConfig.BOX_SIZE*0.45f;
+    private static final int MARGIN = 8;
+    private static final int WIDTH = ViewConfig.BUTTON_WIDTH;
+    // Buffer with the rendered text of the last report
+    private PGraphics buffer;
+    // Report rendered into the buffer, and its revision
+    private IPerformanceReport renderedReport;
+    private long renderedRevision;
+    // Last report given, shown again while nothing updates it
+    private IPerformanceReport lastReport;
+    private boolean visible;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PerformanceOverlay() {}
+
+    /**
+     * Returns the singleton instance of PerformanceOverlay.
+     * @return The singleton instance of PerformanceOverlay.
+     */
+    public static PerformanceOverlay getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Shows the overlay if it is hidden, and hides it otherwise.
+     */
+    public void toggle() {
+        this.visible = !this.visible;
+    }
+
+    /**
+     * Checks if the overlay is shown.
+     * @return true if it is drawn.
+     */
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    /**
+     * Draws the overlay with the latest report, rendering its text again only if it changed.
+     * The report is remembered even while the overlay is hidden, so it can be shown at any time.
+     * @param context The PApplet context to draw.
+     * @param report The report to show.
+     */
+    public void render(PApplet context, IPerformanceReport report) {
+        if(report != null) this.lastReport = report;
+        if(!this.visible || report == null) return;
+        if(report != this.renderedReport || report.getRevision() != this.renderedRevision){
+            this.renderText(context, report.getLines());
+            this.renderedReport = report;
+            this.renderedRevision = report.getRevision();
+        }
+        context.image(this.buffer, ViewConfig.GAME_AREA_PADDING + MARGIN,
+                ViewConfig.GAME_AREA_PADDING*2 + ViewConfig.TOP_BAR_HEIGHT + MARGIN);
+    }
+
+    /**
+     * Draws the overlay with the last report given, e.g. while the game is paused.
+     * @param context The PApplet context to draw.
+     */
+    public void render(PApplet context) {
+        this.render(context, this.lastReport);
+    }
+
+    /**
+     * Renders the lines of a report into the buffer, growing it if needed.
+     * @param context The PApplet context that creates the buffer.
+     * @param lines The lines to render.
+     */
+    private void renderText(PApplet context, List<String> lines) {
+        float lineHeight = TEXT_SIZE * 1.3f;
+        int height = (int) Math.ceil(lines.size() * lineHeight) + MARGIN * 2;
+        if(this.buffer == null || this.buffer.height < height){
+            this.buffer = context.createGraphics(WIDTH, height);
+        }
+        this.buffer.beginDraw();
+        this.buffer.clear();
+        this.buffer.noStroke();
+        this.buffer.fill(0, 0, 0, 170);
+        this.buffer.rect(0, 0, WIDTH, height, 8);
+        this.buffer.textFont(Assets.textFont);
+        this.buffer.textSize(TEXT_SIZE);
+        this.buffer.textAlign(PConstants.LEFT, PConstants.TOP);
+        this.buffer.fill(ColorPalette.TEXT_PRIMARY);
+        for(int i = 0; i < lines.size(); i++){
+            this.buffer.text(lines.get(i), MARGIN, MARGIN + i * lineHeight);
+        }
+        this.buffer.endDraw();
+    }
+}
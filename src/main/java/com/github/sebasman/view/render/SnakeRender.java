@@ -1,14 +1,13 @@
 package com.github.sebasman.view.render;
 
-import com.github.sebasman.contracts.model.ISnakeAPI;
+import com.github.sebasman.contracts.model.ISnakeView;
 import com.github.sebasman.contracts.vo.Position;
-import com.github.sebasman.model.config.ModelConfig;
 import com.github.sebasman.view.config.ColorPalette;
 import processing.core.PApplet;
 
 /**
  * Snake-specific renderer. Knows how to draw an object
- * that implements ISnakeAPI on the screen.
+ * that implements ISnakeView on the screen.
  */
 public class SnakeRender {
     /**
@@ -16,20 +15,22 @@ public class SnakeRender {
      * @param p The context in which the drawing is to be made
      * @param interpolation percentage of the interpolation moves the snake
      * @param snake The instance of the object to be drawn
+     * @param cellSize The size in pixels of a cell of the board
      */
-    public void draw(PApplet p, Float interpolation, ISnakeAPI snake) {
+    public void draw(PApplet p, Float interpolation, ISnakeView snake, float cellSize) {
         p.pushStyle();
         p.noStroke();
         // Draw each body part independently
         // The loop now only draws the INSIDE body segments.
-        for (int i = 1; i < snake.getBodySet().size() - 1; i++) {
-            drawSegment(p, i, interpolation, snake);
+        int length = snake.getLength();
+        for (int i = 1; i < length - 1; i++) {
+            drawSegment(p, i, interpolation, snake, cellSize);
         }
-        if (!snake.getBodySet().isEmpty()) {
-            drawEnd(p, 0, interpolation, true, snake); // Draw the head
+        if (length > 0) {
+            drawEnd(p, 0, interpolation, true, snake, cellSize); // Draw the head
         }
-        if (snake.getBodySet().size() > 1) {
-            drawEnd(p, snake.getBodySet().size() - 1, interpolation, false, snake); // Draw the tail
+        if (length > 1) {
+            drawEnd(p, length - 1, interpolation, false, snake, cellSize); // Draw the tail
         }
 
         p.popStyle();
@@ -41,16 +42,17 @@ public class SnakeRender {
      * @param index The index of the segment to render.
      * @param interpolation The interpolation factor for smooth rendering.
      * @param snake The instance of the object to be drawn
+     * @param cellSize The size in pixels of a cell of the board
      */
-    private void drawSegment(PApplet p, int index, Float interpolation, ISnakeAPI snake) {
-        Position currentPos = snake.getBody().get(index);
-        Position previousPos = (index < snake.getPreviousBody().size()) ? snake.getPreviousBody().get(index) : currentPos;
+    private void drawSegment(PApplet p, int index, Float interpolation, ISnakeView snake, float cellSize) {
+        Position currentPos = snake.getSegment(index);
+        Position previousPos = (index < snake.getPreviousLength()) ? snake.getPreviousSegment(index) : currentPos;
 
-        float renderX = PApplet.lerp(previousPos.x(), currentPos.x(), interpolation) * ModelConfig.BOX_SIZE;
-        float renderY = PApplet.lerp(previousPos.y(), currentPos.y(), interpolation) * ModelConfig.BOX_SIZE;
+        float renderX = PApplet.lerp(previousPos.x(), currentPos.x(), interpolation) * cellSize;
+        float renderY = PApplet.lerp(previousPos.y(), currentPos.y(), interpolation) * cellSize;
 
         p.fill(ColorPalette.SNAKE_BODY);
-        p.rect(renderX, renderY, ModelConfig.BOX_SIZE, ModelConfig.BOX_SIZE);
+        p.rect(renderX, renderY, cellSize, cellSize);
     }
 
     /**
@@ -60,26 +62,27 @@ public class SnakeRender {
      * @param interpolation The interpolation factor for smooth rendering.
      * @param isHead True if drawing the head, false if drawing the tail.
      * @param snake The instance of the object to be drawn
+     * @param cellSize The size in pixels of a cell of the board
      */
-    private void drawEnd(PApplet p, int index, Float interpolation, boolean isHead, ISnakeAPI snake) {
-        Position currentPos = snake.getBody().get(index);
-        Position previousPos = (index < snake.getPreviousBody().size()) ? snake.getPreviousBody().get(index) : currentPos;
+    private void drawEnd(PApplet p, int index, Float interpolation, boolean isHead, ISnakeView snake, float cellSize) {
+        Position currentPos = snake.getSegment(index);
+        Position previousPos = (index < snake.getPreviousLength()) ? snake.getPreviousSegment(index) : currentPos;
 
-        float renderX = PApplet.lerp(previousPos.x(), currentPos.x(), interpolation) * ModelConfig.BOX_SIZE;
-        float renderY = PApplet.lerp(previousPos.y(), currentPos.y(), interpolation) * ModelConfig.BOX_SIZE;
+        float renderX = PApplet.lerp(previousPos.x(), currentPos.x(), interpolation) * cellSize;
+        float renderY = PApplet.lerp(previousPos.y(), currentPos.y(), interpolation) * cellSize;
 
         // Determine the position of the adjacent segment to orient the corners correctly
         Position adjacentPos;
         if (isHead) {
             // The head is oriented with respect to the neck (the second segment).
-            adjacentPos = (snake.getBody().size() > 1) ? snake.getBody().get(1) : currentPos;
+            adjacentPos = (snake.getLength() > 1) ? snake.getSegment(1) : currentPos;
         } else {
             // The tail is oriented with respect to the penultimate segment
-            adjacentPos = snake.getBody().get(index - 1);
+            adjacentPos = snake.getSegment(index - 1);
         }
 
         float tl = 0, tr = 0, br = 0, bl = 0;
-        int cornerRadius = 24;
+        float cornerRadius = cellSize * 0.6f;
 
         // Determine which corners to round based on the direction of movement
         if (currentPos.x() > adjacentPos.x()) { // Moving right
@@ -93,36 +96,37 @@ public class SnakeRender {
         }
 
         p.fill(ColorPalette.SNAKE_BODY);
-        p.rect(renderX, renderY, ModelConfig.BOX_SIZE, ModelConfig.BOX_SIZE, tl, tr, br, bl);
+        p.rect(renderX, renderY, cellSize, cellSize, tl, tr, br, bl);
 
         // Draw eyes only if it's the head
         if (isHead) {
-            float eyeSize = ModelConfig.BOX_SIZE*0.29f;
-            float pupilSize = ModelConfig.BOX_SIZE*0.13f;
+            float eyeSize = cellSize*0.29f;
+            float pupilSize = cellSize*0.13f;
             float eyeOffsetX1 = 0, eyeOffsetY1 = 0; // eye 1
             float eyeOffsetX2 = 0, eyeOffsetY2 = 0; // eye 2
             float pupilOffsetX = 0, pupilOffsetY = 0;
+            float pupilShift = cellSize * 0.05f;
 
             switch (snake.getDirection()) {
                 case UP:
-                    eyeOffsetX1 = ModelConfig.BOX_SIZE * 0.25f; eyeOffsetY1 = ModelConfig.BOX_SIZE * 0.35f;
-                    eyeOffsetX2 = ModelConfig.BOX_SIZE * 0.75f; eyeOffsetY2 = ModelConfig.BOX_SIZE * 0.35f;
-                    pupilOffsetY = -2; // Move pupils up
+                    eyeOffsetX1 = cellSize * 0.25f; eyeOffsetY1 = cellSize * 0.35f;
+                    eyeOffsetX2 = cellSize * 0.75f; eyeOffsetY2 = cellSize * 0.35f;
+                    pupilOffsetY = -pupilShift; // Move pupils up
                     break;
                 case DOWN:
-                    eyeOffsetX1 = ModelConfig.BOX_SIZE * 0.25f; eyeOffsetY1 = ModelConfig.BOX_SIZE * 0.65f;
-                    eyeOffsetX2 = ModelConfig.BOX_SIZE * 0.75f; eyeOffsetY2 = ModelConfig.BOX_SIZE * 0.65f;
-                    pupilOffsetY = 2;  // Move pupils down
+                    eyeOffsetX1 = cellSize * 0.25f; eyeOffsetY1 = cellSize * 0.65f;
+                    eyeOffsetX2 = cellSize * 0.75f; eyeOffsetY2 = cellSize * 0.65f;
+                    pupilOffsetY = pupilShift; // Move pupils down
                     break;
                 case LEFT:
-                    eyeOffsetX1 = ModelConfig.BOX_SIZE * 0.35f; eyeOffsetY1 = ModelConfig.BOX_SIZE * 0.25f;
-                    eyeOffsetX2 = ModelConfig.BOX_SIZE * 0.35f; eyeOffsetY2 = ModelConfig.BOX_SIZE * 0.75f;
-                    pupilOffsetX = -2; // Move pupils left
+                    eyeOffsetX1 = cellSize * 0.35f; eyeOffsetY1 = cellSize * 0.25f;
+                    eyeOffsetX2 = cellSize * 0.35f; eyeOffsetY2 = cellSize * 0.75f;
+                    pupilOffsetX = -pupilShift; // Move pupils left
                     break;
                 case RIGHT:
-                    eyeOffsetX1 = ModelConfig.BOX_SIZE * 0.65f; eyeOffsetY1 = ModelConfig.BOX_SIZE * 0.25f;
-                    eyeOffsetX2 = ModelConfig.BOX_SIZE * 0.65f; eyeOffsetY2 = ModelConfig.BOX_SIZE * 0.75f;
-                    pupilOffsetX = 2; // Move pupils right
+                    eyeOffsetX1 = cellSize * 0.65f; eyeOffsetY1 = cellSize * 0.25f;
+                    eyeOffsetX2 = cellSize * 0.65f; eyeOffsetY2 = cellSize * 0.75f;
+                    pupilOffsetX = pupilShift; // Move pupils right
                     break;
             }
 
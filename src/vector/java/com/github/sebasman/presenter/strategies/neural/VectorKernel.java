@@ -0,0 +1,69 @@
+package com.github.sebasman.presenter.strategies.neural;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of the dense product with the incubator Vector API: each row is
+ * multiplied with fused multiply-adds over the widest vectors of the CPU, and the
+ * columns that do not fill a whole vector are finished with a scalar loop.
+ * Batches are computed a vector of samples at a time: the accumulator of each output
+ * stays in a register while the weights are broadcast over the samples of every input.
+ * It lives in its own source set, compiled only by the "vector" Maven profile, and is only
+ * loaded by {@link DenseKernels} when the jdk.incubator.vector module is present.
+ */
+final class VectorKernel implements DenseKernel {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void multiply(float[] weights, int weightOffset, int rows, int cols,
+                         float[] input, int inputOffset, float[] output, int outputOffset) {
+        int biasOffset = weightOffset + rows * cols;
+        int upperBound = SPECIES.loopBound(cols);
+        for(int r = 0; r < rows; r++){
+            int row = weightOffset + r * cols;
+            FloatVector accumulator = FloatVector.zero(SPECIES);
+            int c = 0;
+            for(; c < upperBound; c += SPECIES.length()){
+                FloatVector w = FloatVector.fromArray(SPECIES, weights, row + c);
+                FloatVector x = FloatVector.fromArray(SPECIES, input, inputOffset + c);
+                accumulator = w.fma(x, accumulator);
+            }
+            float sum = accumulator.reduceLanes(VectorOperators.ADD);
+            for(; c < cols; c++){
+                sum += weights[row + c] * input[inputOffset + c];
+            }
+            output[outputOffset + r] = sum + weights[biasOffset + r];
+        }
+    }
+
+    @Override
+    public void multiplyBatch(float[] weights, int weightOffset, int rows, int cols,
+                              float[] input, float[] output, int stride, int count) {
+        int biasOffset = weightOffset + rows * cols;
+        int upperBound = SPECIES.loopBound(count);
+        int i = 0;
+        for(; i < upperBound; i += SPECIES.length()){
+            for(int r = 0; r < rows; r++){
+                int row = weightOffset + r * cols;
+                FloatVector accumulator = FloatVector.broadcast(SPECIES, weights[biasOffset + r]);
+                for(int c = 0; c < cols; c++){
+                    FloatVector x = FloatVector.fromArray(SPECIES, input, c * stride + i);
+                    accumulator = x.fma(FloatVector.broadcast(SPECIES, weights[row + c]), accumulator);
+                }
+                accumulator.intoArray(output, r * stride + i);
+            }
+        }
+        for(; i < count; i++){
+            for(int r = 0; r < rows; r++){
+                int row = weightOffset + r * cols;
+                float sum = weights[biasOffset + r];
+                for(int c = 0; c < cols; c++){
+                    sum += weights[row + c] * input[c * stride + i];
+                }
+                output[r * stride + i] = sum;
+            }
+        }
+    }
+}